@@ -23,6 +23,7 @@ import org.dominokit.brix.api.BrixSlots;
 import org.dominokit.brix.api.BrixStartupTask;
 import org.dominokit.brix.api.Config;
 import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.query.BrixQueries;
 import org.dominokit.domino.history.AppHistory;
 
 /**
@@ -78,6 +79,13 @@ public class Brix {
     return coreComponent.core().getEvents();
   }
 
+  /**
+   * @return global query channel
+   */
+  public BrixQueries queries() {
+    return coreComponent.core().getQueries();
+  }
+
   /**
    * @return global configuration holder
    */
@@ -16,6 +16,7 @@
 package org.dominokit.brix;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -25,6 +26,8 @@ import org.dominokit.brix.api.BrixStartupTask;
 import org.dominokit.brix.api.Config;
 import org.dominokit.brix.api.ConfigImpl;
 import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.EventMetrics;
+import org.dominokit.brix.events.query.BrixQueries;
 import org.dominokit.brix.security.SecurityContext;
 import org.dominokit.brix.tasks.TasksRunner;
 import org.dominokit.domino.history.AppHistory;
@@ -32,8 +35,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Core runtime services holder created by Dagger. Exposes globally shared router, event bus, slots,
- * configuration, security context, and startup runner used by the framework.
+ * Core runtime services holder created by Dagger. Exposes globally shared router, event bus, query
+ * channel, slots, configuration, security context, and startup runner used by the framework.
  */
 @Singleton
 public class BrixCore {
@@ -42,6 +45,7 @@ public class BrixCore {
   private final AppHistory router;
   private final TasksRunner tasksRunner;
   private final BrixEvents events;
+  private final BrixQueries queries;
   private final BrixSlots slots;
   private final Config config;
   private final SecurityContext securityContext;
@@ -51,12 +55,14 @@ public class BrixCore {
       @Global AppHistory router,
       TasksRunner tasksRunner,
       @Global BrixEvents events,
+      @Global BrixQueries queries,
       @Global BrixSlots slots,
       @Global Config config,
       SecurityContext securityContext) {
     this.router = router;
     this.tasksRunner = tasksRunner;
     this.events = events;
+    this.queries = queries;
     this.slots = slots;
     this.config = config;
     this.securityContext = securityContext;
@@ -76,6 +82,34 @@ public class BrixCore {
     return this.events;
   }
 
+  /**
+   * @return shared query channel
+   */
+  public BrixQueries getQueries() {
+    return queries;
+  }
+
+  /**
+   * Starts collecting metrics of the shared event bus, including the buses scoped to components.
+   *
+   * @return the metrics being collected, poll it or {@link EventMetrics#dump() dump} it as needed
+   */
+  public EventMetrics enableEventMetrics() {
+    return events.enableMetrics();
+  }
+
+  /** Stops collecting metrics of the shared event bus. */
+  public void disableEventMetrics() {
+    events.disableMetrics();
+  }
+
+  /**
+   * @return the metrics of the shared event bus, empty when metrics are disabled
+   */
+  public Optional<EventMetrics> getEventMetrics() {
+    return events.getMetrics();
+  }
+
   /**
    * @return shared slots registry
    */
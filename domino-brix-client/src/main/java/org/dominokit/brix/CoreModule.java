@@ -27,6 +27,9 @@ import org.dominokit.brix.api.BrixStartupTask;
 import org.dominokit.brix.api.Config;
 import org.dominokit.brix.api.ConfigImpl;
 import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.DomEventScheduler;
+import org.dominokit.brix.events.EventScheduler;
+import org.dominokit.brix.events.query.BrixQueries;
 import org.dominokit.brix.security.IsSecurityContext;
 import org.dominokit.brix.security.SecurityContext;
 import org.dominokit.brix.tasks.TasksRunner;
@@ -56,12 +59,28 @@ public class CoreModule {
     return new TasksRunner();
   }
 
+  /** Supplies the scheduler of deferred, async and rate limited events. */
+  @Singleton
+  @Provides
+  @Global
+  public EventScheduler eventScheduler() {
+    return DomEventScheduler.INSTANCE;
+  }
+
   /** Creates a shared in-memory event bus. */
   @Singleton
   @Provides
   @Global
-  public BrixEvents events() {
-    return new BrixEvents();
+  public BrixEvents events(@Global EventScheduler scheduler) {
+    return new BrixEvents(scheduler);
+  }
+
+  /** Creates the shared query channel answering queries next to the shared event bus. */
+  @Singleton
+  @Provides
+  @Global
+  public BrixQueries queries(@Global BrixEvents events) {
+    return new BrixQueries(events);
   }
 
   /** Creates the global slots registry used by presenters. */
@@ -22,6 +22,7 @@ import org.dominokit.brix.annotations.Global;
 import org.dominokit.brix.api.BrixSlots;
 import org.dominokit.brix.api.Config;
 import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.query.BrixQueries;
 import org.dominokit.brix.security.IsSecurityContext;
 import org.dominokit.domino.history.AppHistory;
 
@@ -57,6 +58,16 @@ public interface PresentationModule {
     return coreComponent().core().getEvents();
   }
 
+  /**
+   * @return shared query channel
+   */
+  @Singleton
+  @Provides
+  @Global
+  default BrixQueries globalQueries() {
+    return coreComponent().core().getQueries();
+  }
+
   /**
    * @return shared slots registry
    */
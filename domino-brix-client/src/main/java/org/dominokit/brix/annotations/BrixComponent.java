@@ -34,5 +34,12 @@ public @interface BrixComponent {
 
   Class<? extends IsBrixComponent> parent() default NonParent.class;
 
+  /**
+   * @return {@code true} to load the component code behind a GWT split point the first time its
+   *     route is entered, ignored with a warning when GWT is not on the compile classpath, defaults
+   *     to {@code false}
+   */
+  boolean splitPoint() default false;
+
   public final class NonParent implements IsBrixComponent {}
 }
@@ -23,7 +23,8 @@ import org.dominokit.brix.api.RoutingProvider;
 
 /**
  * Associates a presenter with a routing path. The processor generates a routing provider that
- * registers the presenter with the router.
+ * registers the presenter with the router, and adds the composed route to the generated route table
+ * of the module unless a custom {@link #router()} is used.
  */
 @Retention(RetentionPolicy.CLASS)
 @Target({ElementType.TYPE})
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.dominokit.brix.events.RateLimitEdge;
+
+/**
+ * Declares the default {@link org.dominokit.brix.events.RateLimit} of an event type, events of the
+ * type are delivered once no event of the type was fired for the delay. The limit is registered by
+ * the initializer generated with the event type when the application starts.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Debounce {
+
+  /**
+   * @return quiet time in milliseconds that ends a burst of events
+   */
+  double value();
+
+  /**
+   * @return edges at which events are delivered
+   */
+  RateLimitEdge edge() default RateLimitEdge.TRAILING;
+}
@@ -21,13 +21,18 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import org.dominokit.brix.events.BrixEvent;
 
-/** Use this annotation to make a method in a presenter proxy a listener for specific event */
+/**
+ * Use this annotation to make a method in a presenter proxy a listener for specific event. The
+ * value can also be an abstract event class or an interface implemented by events, the method then
+ * receives every event that is an instance of it.
+ */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface ListenFor {
 
   /**
-   * @return the type of {@link BrixEvent} that method is listening for
+   * @return the type of {@link BrixEvent}, or the interface implemented by events, that method is
+   *     listening for
    */
-  Class<? extends BrixEvent> value();
+  Class<?> value();
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.history.DominoHistory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Route binding of a component loaded on demand. The first time the route is entered the component
+ * is loaded, and the loaded binding is entered with the latest routing state once the load
+ * completes, unless the route was left in the meantime. Preloading the component does not reveal
+ * the loading view.
+ */
+class AsyncRouteBinding implements RouteBinding {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncRouteBinding.class);
+
+  private final RouteLoader loader;
+  private final RouteLoading loading;
+  private RouteBinding binding;
+  private DominoHistory.State pendingState;
+  private final List<Runnable> preloadCallbacks = new ArrayList<>();
+  private boolean loadPending = false;
+  private boolean loadingRevealed = false;
+  private boolean active = false;
+
+  AsyncRouteBinding(RouteLoader loader, RouteLoading loading) {
+    this.loader = loader;
+    this.loading = loading;
+  }
+
+  @Override
+  public void enter(DominoHistory.State state) {
+    active = true;
+    if (nonNull(binding)) {
+      binding.enter(state);
+    } else {
+      pendingState = state;
+      load(true);
+    }
+  }
+
+  @Override
+  public void stay(DominoHistory.State state) {
+    if (nonNull(binding)) {
+      binding.stay(state);
+    } else {
+      pendingState = state;
+      load(true);
+    }
+  }
+
+  @Override
+  public void leave() {
+    active = false;
+    pendingState = null;
+    if (nonNull(binding)) {
+      binding.leave();
+    }
+  }
+
+  @Override
+  public void preload(Runnable onLoaded) {
+    if (nonNull(binding)) {
+      binding.preload(onLoaded);
+    } else {
+      preloadCallbacks.add(onLoaded);
+      load(false);
+    }
+  }
+
+  @Override
+  public void prepare() {
+    if (nonNull(binding)) {
+      binding.prepare();
+    }
+  }
+
+  @Override
+  public boolean isPrepared() {
+    return nonNull(binding) && binding.isPrepared();
+  }
+
+  private void load(boolean revealLoading) {
+    if (revealLoading && !loadingRevealed) {
+      loadingRevealed = true;
+      loading.started();
+    }
+    if (loadPending) {
+      return;
+    }
+    loadPending = true;
+    loader.load(
+        loaded -> {
+          completeLoad();
+          binding = loaded;
+          DominoHistory.State state = pendingState;
+          pendingState = null;
+          if (active && nonNull(state)) {
+            binding.enter(state);
+          }
+          runPreloadCallbacks();
+        },
+        error -> {
+          completeLoad();
+          LOGGER.error("Failed to load routed component", error);
+          runPreloadCallbacks();
+        });
+  }
+
+  private void completeLoad() {
+    loadPending = false;
+    if (loadingRevealed) {
+      loadingRevealed = false;
+      loading.finished();
+    }
+  }
+
+  private void runPreloadCallbacks() {
+    List<Runnable> callbacks = new ArrayList<>(preloadCallbacks);
+    preloadCallbacks.clear();
+    for (Runnable callback : callbacks) {
+      if (nonNull(binding)) {
+        binding.preload(callback);
+      } else {
+        callback.run();
+      }
+    }
+  }
+}
@@ -17,14 +17,15 @@ package org.dominokit.brix.api;
 
 import static java.util.Objects.isNull;
 
+import elemental2.dom.DomGlobal;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import org.dominokit.brix.events.CopyOnWriteListeners;
 import org.dominokit.brix.events.RegistrationRecord;
+import org.dominokit.brix.impl.AppendElementSlot;
 import org.dominokit.brix.impl.BodyElementSlot;
 import org.dominokit.brix.impl.NoContentSlot;
 import org.dominokit.brix.impl.PopupSlot;
@@ -40,14 +41,16 @@ public class BrixSlots {
   public static final String BRIX_BODY_SLOT = "brix-body-slot";
   public static final String BRIX_NO_CONTENT_SLOT = "brix-no-content-slot";
   public static final String BRIX_POPUP_SLOT = "brix-popup-slot";
+  public static final String BRIX_LOADING_SLOT = "brix-loading-slot";
 
   private final Map<String, Deque<Slot>> slots = new HashMap<>();
-  private final Set<SlotListener> listeners = new HashSet<>();
+  private final CopyOnWriteListeners<SlotListener> listeners = new CopyOnWriteListeners<>();
 
   public BrixSlots() {
     register(BodyElementSlot.create());
     register(PopupSlot.create());
     register(NoContentSlot.create());
+    register(AppendElementSlot.of(BRIX_LOADING_SLOT, DomGlobal.document.body));
   }
 
   /**
@@ -75,7 +78,7 @@ public class BrixSlots {
     }
     slots.get(slot.getKey()).push(slot);
     slot.onRegistered();
-    listeners.forEach(listener -> listener.onSlotRegistered(slot.getKey()));
+    listeners.dispatch(SlotListener::onSlotRegistered, slot.getKey());
 
     return () -> unRegister(slot);
   }
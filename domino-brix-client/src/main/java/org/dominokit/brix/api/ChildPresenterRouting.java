@@ -36,6 +36,19 @@ public class ChildPresenterRouting implements RoutingProvider {
     return containsHashInPath() || parent.isHashBasedRouting();
   }
 
+  @Override
+  public String getPathPrefix() {
+    String path = getRoutingPath();
+    if (isNull(path) || path.trim().isEmpty()) {
+      return parent.getPathPrefix();
+    }
+    if (isHashBasedRouting()) {
+      return null;
+    }
+    String parentPath = parent.getRoutingPath();
+    return isNull(parentPath) || parentPath.trim().isEmpty() ? path : parentPath + path;
+  }
+
   public TokenFilter tokenFilter() {
     String path = getRoutingPath();
     if (isNull(path) || path.trim().isEmpty()) {
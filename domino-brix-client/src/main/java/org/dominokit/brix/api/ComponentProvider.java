@@ -16,16 +16,25 @@
 package org.dominokit.brix.api;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import org.dominokit.brix.Brix;
+import org.dominokit.brix.events.BrixEvents;
 
 /**
  * Lazy provider for generated components and presenters. Caches the created instance until reset
  * after presenter deactivation.
  *
+ * <p>Each component also owns an event bus scoped to its subtree, created on demand under the bus
+ * of its parent component, or under the global bus, and disposed when the component is reset.
+ *
  * @param <T> provided type
  */
 public abstract class ComponentProvider<T> {
 
   private T obj;
+  private ComponentProvider<?> parent;
+  private BrixEvents events;
 
   /**
    * @return cached instance, creating a new one on first call
@@ -37,8 +46,34 @@ public abstract class ComponentProvider<T> {
     return obj;
   }
 
+  /**
+   * @return {@code true} when the instance was created and not reset since
+   */
+  boolean isCreated() {
+    return nonNull(obj);
+  }
+
+  /**
+   * @return the event bus scoped to this component subtree
+   */
+  public BrixEvents getEvents() {
+    if (isNull(events) || events.isDisposed()) {
+      BrixEvents parentEvents = nonNull(parent) ? parent.getEvents() : Brix.get().events();
+      this.events = parentEvents.createChild();
+    }
+    return events;
+  }
+
+  void setParent(ComponentProvider<?> parent) {
+    this.parent = parent;
+  }
+
   void reset() {
     this.obj = null;
+    if (nonNull(events)) {
+      events.dispose();
+      this.events = null;
+    }
   }
 
   /**
@@ -22,14 +22,15 @@ import static java.util.Objects.nonNull;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import javax.inject.Inject;
 import org.dominokit.brix.annotations.Global;
 import org.dominokit.brix.events.BrixEvent;
 import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.BrixIds;
 import org.dominokit.brix.events.EventListener;
 import org.dominokit.brix.events.HasRoles;
 import org.dominokit.brix.events.RegistrationRecord;
+import org.dominokit.brix.events.query.BrixQueries;
 import org.dominokit.brix.security.Authorizer;
 import org.dominokit.brix.security.DefaultAuthorizer;
 import org.dominokit.brix.security.HasAuthorizer;
@@ -51,12 +52,14 @@ public abstract class Presenter<V extends Viewable>
 
   private static final Logger LOGGER = LoggerFactory.getLogger(Presenter.class);
 
-  private final String ID = UUID.randomUUID().toString();
+  private String id;
 
   @Inject @Global protected AppHistory globalRouter;
 
   @Inject @Global protected BrixEvents events;
 
+  @Inject @Global protected BrixQueries queries;
+
   @Inject @Global protected BrixSlots slots;
 
   @Inject protected IsSecurityContext securityContext;
@@ -162,7 +165,7 @@ public abstract class Presenter<V extends Viewable>
         slotListenerRecord = slots.listen(this);
         setAttachHandlers();
         setNavigationInterceptor();
-        eventsListenerRecord = events.register(this);
+        eventsListenerRecord = getScopedEvents().register(this);
         this.active = true;
         onActivated();
         LOGGER.debug("Presenter [" + this + "] : Activated.");
@@ -387,12 +390,27 @@ public abstract class Presenter<V extends Viewable>
     void invoke();
   }
 
+  /**
+   * Returns the event bus scoped to the component subtree of this presenter, the presenter listens
+   * on this bus and receives the events of the global bus through it. Events fired on it reach only
+   * this presenter and the presenters of its child components, unless propagated with {@link
+   * BrixEvents#fireAndPropagate(BrixEvent)}. The bus is disposed when the presenter deactivates.
+   *
+   * @return the scoped event bus, or the global bus when the presenter is not bound to a component
+   */
+  protected BrixEvents getScopedEvents() {
+    return nonNull(componentProvider) ? componentProvider.getEvents() : events;
+  }
+
   void bindToComponent(ComponentProvider<?> componentProvider) {
     this.componentProvider = componentProvider;
   }
 
   @Override
   public String toString() {
-    return this.getClass().getCanonicalName() + "[" + ID + "]";
+    if (isNull(id)) {
+      id = BrixIds.nextId();
+    }
+    return this.getClass().getCanonicalName() + "[" + id + "]";
   }
 }
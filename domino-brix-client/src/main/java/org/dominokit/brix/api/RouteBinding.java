@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import org.dominokit.domino.history.DominoHistory;
+
+/**
+ * Receives the changes of a route match state computed by the {@link RouteDispatcher}. Each
+ * navigation diffs the set of active routes, a route is either entering, staying or leaving, routes
+ * that do not match before nor after the navigation are not notified.
+ */
+public interface RouteBinding {
+
+  /**
+   * Called when a navigation matches the route and the previous one did not.
+   *
+   * @param state routing state of the navigation
+   */
+  void enter(DominoHistory.State state);
+
+  /**
+   * Called when a navigation matches the route and the previous one matched it too, defaults to
+   * {@link #enter(DominoHistory.State)}.
+   *
+   * @param state routing state of the navigation
+   */
+  default void stay(DominoHistory.State state) {
+    enter(state);
+  }
+
+  /** Called when a navigation no longer matches the route. */
+  void leave();
+
+  /**
+   * Loads the code of the route ahead of navigation, defaults to completing immediately.
+   *
+   * @param onLoaded called once the code is loaded, or when it could not be loaded
+   */
+  default void preload(Runnable onLoaded) {
+    onLoaded.run();
+  }
+
+  /**
+   * Creates the route component ahead of navigation, after {@link #preload(Runnable)} completed.
+   * Must neither activate the presenter nor run any of its lifecycle hooks.
+   */
+  default void prepare() {}
+
+  /**
+   * Tells if the component created by {@link #prepare()} is still available, a route that is no
+   * longer prepared, for example after its component was reset, can be prefetched again. Defaults
+   * to {@code true}.
+   *
+   * @return {@code true} while the prepared route component is available
+   */
+  default boolean isPrepared() {
+    return true;
+  }
+}
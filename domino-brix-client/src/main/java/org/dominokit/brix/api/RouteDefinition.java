@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import org.dominokit.domino.history.TokenFilter;
+
+/**
+ * A route resolved at compile time. The processor composes the path and matching mode of every
+ * routed presenter, including the chain of its parent presenters, and emits the definitions in a
+ * generated route table, so the token filter is created once from the precomputed values instead of
+ * being composed through {@link ChildPresenterRouting} parents at startup.
+ */
+public final class RouteDefinition implements RoutingProvider {
+
+  private final String name;
+  private final String routingPath;
+  private final String path;
+  private final RouteMode mode;
+  private final RouteDefinition parent;
+  private TokenFilter filter;
+
+  /**
+   * @param name qualified name of the routed presenter
+   * @param routingPath the presenter own routing path
+   * @param path the composed path matched by the route
+   * @param mode how the route matches tokens
+   * @param parent the route of the parent presenter, {@code null} for standalone presenters
+   */
+  public RouteDefinition(
+      String name, String routingPath, String path, RouteMode mode, RouteDefinition parent) {
+    this.name = name;
+    this.routingPath = routingPath;
+    this.path = path;
+    this.mode = mode;
+    this.parent = parent;
+  }
+
+  /**
+   * @return qualified name of the routed presenter
+   */
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getRoutingPath() {
+    return routingPath;
+  }
+
+  /**
+   * @return the composed path matched by the route, empty for {@link RouteMode#ANY}
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * @return how the route matches tokens
+   */
+  public RouteMode getMode() {
+    return mode;
+  }
+
+  /**
+   * @return the route of the parent presenter, {@code null} for standalone presenters and for
+   *     parents without a route of their own
+   */
+  public RouteDefinition getParent() {
+    return parent;
+  }
+
+  @Override
+  public boolean isHashBasedRouting() {
+    return RouteMode.FRAGMENT == mode || RouteMode.PATH_AND_FRAGMENT == mode;
+  }
+
+  @Override
+  public String getPathPrefix() {
+    if (RouteMode.ANY == mode) {
+      return "";
+    }
+    return RouteMode.PATH == mode ? path : null;
+  }
+
+  @Override
+  public TokenFilter tokenFilter() {
+    if (isNull(filter)) {
+      filter = createFilter();
+    }
+    return filter;
+  }
+
+  private TokenFilter createFilter() {
+    if (nonNull(parent) && (isNull(routingPath) || routingPath.trim().isEmpty())) {
+      return parent.getTokenFilter();
+    }
+    switch (mode) {
+      case PATH:
+        return TokenFilter.startsWithPathFilter(path);
+      case FRAGMENT:
+        return TokenFilter.startsWithFragment(path);
+      case PATH_AND_FRAGMENT:
+        return CompositeFilter.of(
+            parent.getTokenFilter(), TokenFilter.startsWithFragment(routingPath));
+      default:
+        return TokenFilter.any();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return name + "[" + mode + ":" + path + "]";
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.dominokit.brix.events.RegistrationRecord;
+import org.dominokit.domino.history.AppHistory;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.HistoryToken;
+import org.dominokit.domino.history.NormalizedToken;
+import org.dominokit.domino.history.TokenFilter;
+
+/**
+ * Dispatches navigations to the registered routes using a single router listener. Routes matching a
+ * path prefix are compiled into a segment trie, so a navigation only evaluates the token filters of
+ * the routes along the token path and of the routes that cannot be indexed, such as fragment based
+ * routes.
+ *
+ * <p>Each navigation diffs the active routes against the matching ones, leaving routes are notified
+ * first, then entering and staying routes in registration order. Routes that match neither before
+ * nor after the navigation are not touched.
+ */
+public class RouteDispatcher {
+
+  private final AppHistory router;
+  private final RouteTrie<Route> trie = new RouteTrie<>();
+  private final List<Route> unindexed = new ArrayList<>();
+  private List<Route> active = new ArrayList<>();
+  private DominoHistory.StateListener listener;
+  private String rootPath = "";
+  private int generation = 0;
+  private int order = 0;
+  private int size = 0;
+
+  /**
+   * @param router router whose navigations are dispatched
+   */
+  public RouteDispatcher(AppHistory router) {
+    this.router = router;
+  }
+
+  /**
+   * Registers a route, the dispatcher starts listening to the router with its first route.
+   *
+   * @param routing provider of the route path and token filter
+   * @param binding notified when the route enters, stays in or leaves the active routes
+   * @return registration removing the route
+   */
+  public RegistrationRecord addRoute(RoutingProvider routing, RouteBinding binding) {
+    Route route = new Route(routing, binding, order++);
+    if (isNull(route.prefix)) {
+      unindexed.add(route);
+    } else {
+      trie.add(route.prefix, route);
+    }
+    size++;
+    if (isNull(listener)) {
+      listener = this::dispatch;
+      router.listen(TokenFilter.any(), listener);
+    }
+    return () -> remove(route);
+  }
+
+  /**
+   * Registers a route that handles entering and staying navigations the same way.
+   *
+   * @param routing provider of the route path and token filter
+   * @param onMatched called with the routing state of every navigation matching the route
+   * @param onUnmatched called when a navigation stops matching the route
+   * @return registration removing the route
+   */
+  public RegistrationRecord addRoute(
+      RoutingProvider routing, Consumer<DominoHistory.State> onMatched, Runnable onUnmatched) {
+    return addRoute(
+        routing,
+        new RouteBinding() {
+          @Override
+          public void enter(DominoHistory.State state) {
+            onMatched.accept(state);
+          }
+
+          @Override
+          public void leave() {
+            onUnmatched.run();
+          }
+        });
+  }
+
+  /**
+   * Sets the root path the router was created with, used to normalize tokens for the path and
+   * fragment parameters of the matched routes. Defaults to an empty root path.
+   *
+   * @param rootPath router root path
+   */
+  public void setRootPath(String rootPath) {
+    this.rootPath = rootPath;
+  }
+
+  /**
+   * @return number of registered routes
+   */
+  public int getRoutesCount() {
+    return size;
+  }
+
+  /**
+   * @return number of routes matched by the last navigation
+   */
+  public int getActiveRoutesCount() {
+    return active.size();
+  }
+
+  private void remove(Route route) {
+    if (route.removed) {
+      return;
+    }
+    route.removed = true;
+    if (isNull(route.prefix)) {
+      unindexed.remove(route);
+    } else {
+      trie.remove(route.prefix, route);
+    }
+    if (route.active) {
+      route.active = false;
+      active.remove(route);
+    }
+    size--;
+  }
+
+  /**
+   * Finds the bindings of the routes matching a token without dispatching it.
+   *
+   * @param token history token
+   * @return the bindings of the matching routes in registration order
+   */
+  List<RouteBinding> findBindings(HistoryToken token) {
+    List<RouteBinding> bindings = new ArrayList<>();
+    for (Route route : match(token)) {
+      bindings.add(route.binding);
+    }
+    return bindings;
+  }
+
+  private List<Route> match(HistoryToken token) {
+    List<Route> candidates = new ArrayList<>(unindexed);
+    trie.collect(token.paths(), candidates);
+    List<Route> matching = new ArrayList<>();
+    for (Route route : candidates) {
+      if (route.filter.filter(token)) {
+        matching.add(route);
+      }
+    }
+    matching.sort((first, second) -> Integer.compare(first.order, second.order));
+    return matching;
+  }
+
+  private void dispatch(DominoHistory.State state) {
+    int current = ++generation;
+    List<Route> matching = match(state.token());
+    for (Route route : matching) {
+      route.matchedGeneration = current;
+    }
+    List<Route> previous = active;
+    active = matching;
+    for (Route route : previous) {
+      if (route.matchedGeneration != current) {
+        route.active = false;
+        route.binding.leave();
+      }
+    }
+    for (Route route : matching) {
+      if (route.removed) {
+        continue;
+      }
+      DominoHistory.State routedState = new RoutedState(state, route.filter, rootPath);
+      if (route.active) {
+        route.binding.stay(routedState);
+      } else {
+        route.active = true;
+        route.binding.enter(routedState);
+      }
+    }
+  }
+
+  private static final class Route {
+    private final String prefix;
+    private final TokenFilter filter;
+    private final RouteBinding binding;
+    private final int order;
+    private int matchedGeneration = -1;
+    private boolean active = false;
+    private boolean removed = false;
+
+    private Route(RoutingProvider routing, RouteBinding binding, int order) {
+      this.prefix = routing.getPathPrefix();
+      this.filter = routing.getTokenFilter();
+      this.binding = binding;
+      this.order = order;
+    }
+  }
+
+  /** Routing state of a matched route, normalized with the token filter of that route. */
+  private static final class RoutedState implements DominoHistory.State {
+    private final DominoHistory.State state;
+    private final TokenFilter filter;
+    private final String rootPath;
+    private NormalizedToken normalizedToken;
+
+    private RoutedState(DominoHistory.State state, TokenFilter filter, String rootPath) {
+      this.state = state;
+      this.filter = filter;
+      this.rootPath = rootPath;
+    }
+
+    @Override
+    public HistoryToken token() {
+      return state.token();
+    }
+
+    @Override
+    public String data() {
+      return state.data();
+    }
+
+    @Override
+    public String title() {
+      return state.title();
+    }
+
+    @Override
+    public NormalizedToken normalizedToken() {
+      if (isNull(normalizedToken)) {
+        normalizedToken = filter.normalizeToken(rootPath, state.token().value());
+      }
+      return nonNull(normalizedToken) ? normalizedToken : state.normalizedToken();
+    }
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import java.util.function.Consumer;
+
+/**
+ * Loads the code of a routed component on demand. Generated component services implement it with a
+ * GWT split point, so the component code is downloaded the first time its route is entered.
+ */
+@FunctionalInterface
+public interface RouteLoader {
+
+  /**
+   * Loads the component and creates its route binding.
+   *
+   * @param onLoaded receives the binding of the loaded component
+   * @param onFailure receives the failure when the component could not be loaded
+   */
+  void load(Consumer<RouteBinding> onLoaded, Consumer<Throwable> onFailure);
+}
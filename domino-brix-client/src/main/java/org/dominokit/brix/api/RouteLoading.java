@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import static java.util.Objects.nonNull;
+
+import org.dominokit.brix.Brix;
+
+/**
+ * Reveals a loading view while routed components are being loaded. The view is revealed in the slot
+ * registered with the {@link BrixSlots#BRIX_LOADING_SLOT loading slot key}, which appends it to the
+ * document body unless the application registers its own slot with the key, when the first load
+ * starts and removed when the last pending load completes. Nothing is shown until a view is set or
+ * when no slot is registered with a custom key.
+ */
+public class RouteLoading {
+
+  private String slotKey = BrixSlots.BRIX_LOADING_SLOT;
+  private Viewable view;
+  private int pending = 0;
+
+  /**
+   * @param slotKey key of the slot revealing the loading view
+   * @return same instance
+   */
+  public RouteLoading setSlot(String slotKey) {
+    this.slotKey = slotKey;
+    return this;
+  }
+
+  /**
+   * @param view view revealed while components are loading, {@code null} to show nothing
+   * @return same instance
+   */
+  public RouteLoading setView(Viewable view) {
+    this.view = view;
+    return this;
+  }
+
+  /**
+   * @return number of components being loaded
+   */
+  public int getPendingCount() {
+    return pending;
+  }
+
+  void started() {
+    if (pending++ == 0 && nonNull(view)) {
+      Brix.get().slots().findSlot(slotKey).ifPresent(slot -> slot.reveal(view));
+    }
+  }
+
+  void finished() {
+    if (--pending == 0 && nonNull(view)) {
+      Brix.get().slots().findSlot(slotKey).ifPresent(slot -> slot.remove(view));
+    }
+  }
+}
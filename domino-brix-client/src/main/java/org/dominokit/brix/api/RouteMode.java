@@ -0,0 +1,28 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+/** How a {@link RouteDefinition} matches history tokens. */
+public enum RouteMode {
+  /** Matches every token, the route has no routing path. */
+  ANY,
+  /** Matches tokens whose path starts with the route path. */
+  PATH,
+  /** Matches tokens whose fragment starts with the route path. */
+  FRAGMENT,
+  /** Matches the parent route and tokens whose fragment starts with the route own path. */
+  PATH_AND_FRAGMENT
+}
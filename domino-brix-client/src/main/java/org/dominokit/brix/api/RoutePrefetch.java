@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import java.util.function.Consumer;
+
+/**
+ * A pending prefetch of the routes matching a token, returned by {@link RoutePrefetcher}.
+ * Cancelling removes the routes that did not start loading yet from the queue, code that is already
+ * being downloaded completes but its components are not created.
+ */
+public class RoutePrefetch {
+
+  private final Consumer<RoutePrefetch> onCancel;
+  private int remaining = 0;
+  private boolean cancelled = false;
+  private boolean started = false;
+
+  RoutePrefetch(Consumer<RoutePrefetch> onCancel) {
+    this.onCancel = onCancel;
+  }
+
+  /** Cancels the prefetch, does nothing once it is done. */
+  public void cancel() {
+    if (!isDone()) {
+      cancelled = true;
+      onCancel.accept(this);
+    }
+  }
+
+  /**
+   * @return {@code true} when the prefetch was cancelled before it completed
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * @return {@code true} when every matching route was prefetched, or the prefetch was cancelled
+   */
+  public boolean isDone() {
+    return cancelled || (started && remaining == 0);
+  }
+
+  void start(int routes) {
+    this.remaining = routes;
+    this.started = true;
+  }
+
+  void routeDone() {
+    remaining--;
+  }
+}
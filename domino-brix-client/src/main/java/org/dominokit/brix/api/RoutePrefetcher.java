@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.dominokit.brix.events.DomEventScheduler;
+import org.dominokit.brix.events.EventScheduler;
+import org.dominokit.domino.history.StateHistoryToken;
+
+/**
+ * Loads the code and creates the components of routes ahead of navigation, so the first visit to a
+ * route does not wait for its split point download nor for its component construction. Prefetching
+ * never activates presenters nor runs their lifecycle hooks.
+ *
+ * <p>Prefetches are budgeted: at most {@link #setMaxConcurrent(int) a few} routes load at the same
+ * time, and at most {@link #setBudget(int) a fixed number} of routes are prefetched in total. Each
+ * route is prefetched once, routes that are already prefetched or loading are skipped. A route
+ * whose prefetch was cancelled, or whose component was reset since, can be prefetched again.
+ */
+public class RoutePrefetcher {
+
+  private final RouteDispatcher dispatcher;
+  private final Deque<Task> queue = new ArrayDeque<>();
+  private final Set<RouteBinding> prefetched = new HashSet<>();
+  private final Map<RouteBinding, Task> pending = new HashMap<>();
+  private EventScheduler scheduler;
+  private int maxConcurrent = 2;
+  private int budget = 10;
+  private int running = 0;
+
+  /**
+   * Creates a prefetcher scheduling idle and delayed prefetches with the {@link DomEventScheduler}.
+   *
+   * @param dispatcher dispatcher resolving the routes of a token
+   */
+  public RoutePrefetcher(RouteDispatcher dispatcher) {
+    this(dispatcher, DomEventScheduler.INSTANCE);
+  }
+
+  /**
+   * @param dispatcher dispatcher resolving the routes of a token
+   * @param scheduler scheduler of idle and delayed prefetches
+   */
+  public RoutePrefetcher(RouteDispatcher dispatcher, EventScheduler scheduler) {
+    this.dispatcher = dispatcher;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * @param scheduler scheduler of idle and delayed prefetches
+   * @return same instance
+   */
+  public RoutePrefetcher setScheduler(EventScheduler scheduler) {
+    this.scheduler = scheduler;
+    return this;
+  }
+
+  /**
+   * @return scheduler of idle and delayed prefetches
+   */
+  public EventScheduler getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * @param maxConcurrent maximum number of routes loading at the same time, defaults to 2
+   * @return same instance
+   */
+  public RoutePrefetcher setMaxConcurrent(int maxConcurrent) {
+    this.maxConcurrent = Math.max(1, maxConcurrent);
+    return this;
+  }
+
+  /**
+   * @param budget number of routes that can still be prefetched, defaults to 10
+   * @return same instance
+   */
+  public RoutePrefetcher setBudget(int budget) {
+    this.budget = budget;
+    return this;
+  }
+
+  /**
+   * @return number of routes that can still be prefetched
+   */
+  public int getBudget() {
+    return budget;
+  }
+
+  /**
+   * Prefetches the routes matching a token, routes are queued when the maximum number of concurrent
+   * prefetches is reached and skipped once the budget is spent.
+   *
+   * @param token history token of a future navigation
+   * @return the prefetch, can be cancelled
+   */
+  public RoutePrefetch prefetch(String token) {
+    RoutePrefetch prefetch = new RoutePrefetch(this::cancelled);
+    enqueue(token, prefetch);
+    return prefetch;
+  }
+
+  /**
+   * Prefetches the routes matching a token the next time the application is idle.
+   *
+   * @param token history token of a future navigation
+   * @return the prefetch, can be cancelled before and while it runs
+   */
+  public RoutePrefetch prefetchWhenIdle(String token) {
+    RoutePrefetch prefetch = new RoutePrefetch(this::cancelled);
+    scheduler.scheduleIdle(
+        () -> {
+          if (!prefetch.isCancelled()) {
+            enqueue(token, prefetch);
+          }
+        });
+    return prefetch;
+  }
+
+  private void enqueue(String token, RoutePrefetch prefetch) {
+    List<RouteBinding> bindings = dispatcher.findBindings(new StateHistoryToken(token));
+    prefetched.removeIf(binding -> !binding.isPrepared());
+    bindings.removeIf(binding -> prefetched.contains(binding) || pending.containsKey(binding));
+    prefetch.start(bindings.size());
+    for (RouteBinding binding : bindings) {
+      Task task = new Task(binding, prefetch);
+      pending.put(binding, task);
+      queue.add(task);
+    }
+    drain();
+  }
+
+  private void cancelled(RoutePrefetch prefetch) {
+    pending.values().removeIf(task -> task.prefetch == prefetch);
+  }
+
+  private void drain() {
+    while (running < maxConcurrent && !queue.isEmpty()) {
+      Task task = queue.poll();
+      if (task.prefetch.isCancelled() || budget <= 0) {
+        pending.remove(task.binding, task);
+        task.prefetch.routeDone();
+        continue;
+      }
+      running++;
+      budget--;
+      task.binding.preload(() -> complete(task));
+    }
+  }
+
+  private void complete(Task task) {
+    running--;
+    pending.remove(task.binding, task);
+    if (!task.prefetch.isCancelled()) {
+      task.binding.prepare();
+      prefetched.add(task.binding);
+    }
+    task.prefetch.routeDone();
+    drain();
+  }
+
+  private static final class Task {
+    private final RouteBinding binding;
+    private final RoutePrefetch prefetch;
+
+    private Task(RouteBinding binding, RoutePrefetch prefetch) {
+      this.binding = binding;
+      this.prefetch = prefetch;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Segment trie of route path prefixes. A route is stored at the node of its last path segment, path
+ * parameter segments such as {@code :id} or {@code {id}} are stored under a wildcard child matching
+ * any segment.
+ *
+ * @param <T> route type
+ */
+final class RouteTrie<T> {
+
+  private final Node<T> root = new Node<>();
+
+  void add(String path, T route) {
+    Node<T> node = root;
+    for (String segment : segments(path)) {
+      if (isParameter(segment)) {
+        if (isNull(node.wildcard)) {
+          node.wildcard = new Node<>();
+        }
+        node = node.wildcard;
+      } else {
+        node = node.children.computeIfAbsent(segment, key -> new Node<>());
+      }
+    }
+    node.routes.add(route);
+  }
+
+  void remove(String path, T route) {
+    Node<T> node = root;
+    for (String segment : segments(path)) {
+      node = isParameter(segment) ? node.wildcard : node.children.get(segment);
+      if (isNull(node)) {
+        return;
+      }
+    }
+    node.routes.remove(route);
+  }
+
+  /**
+   * Adds the routes whose path is a prefix of the token path segments.
+   *
+   * @param paths token path segments
+   * @param matches receives the candidate routes
+   */
+  void collect(List<String> paths, List<T> matches) {
+    collect(root, paths, 0, matches);
+  }
+
+  private void collect(Node<T> node, List<String> paths, int depth, List<T> matches) {
+    matches.addAll(node.routes);
+    if (depth == paths.size()) {
+      return;
+    }
+    Node<T> child = node.children.isEmpty() ? null : node.children.get(paths.get(depth));
+    if (nonNull(child)) {
+      collect(child, paths, depth + 1, matches);
+    }
+    if (nonNull(node.wildcard)) {
+      collect(node.wildcard, paths, depth + 1, matches);
+    }
+  }
+
+  private static List<String> segments(String path) {
+    List<String> segments = new ArrayList<>();
+    for (String segment : path.split("/")) {
+      if (!segment.isEmpty()) {
+        segments.add(segment);
+      }
+    }
+    return segments;
+  }
+
+  private static boolean isParameter(String segment) {
+    return segment.startsWith(":") || (segment.startsWith("{") && segment.endsWith("}"));
+  }
+
+  private static final class Node<T> {
+    private final Map<String, Node<T>> children = new HashMap<>();
+    private final List<T> routes = new ArrayList<>();
+    private Node<T> wildcard;
+  }
+}
@@ -16,16 +16,76 @@
 
 package org.dominokit.brix.api;
 
+import static java.util.Objects.isNull;
+
+import java.util.function.Consumer;
 import org.dominokit.brix.Brix;
 import org.dominokit.brix.HasPresenterProvider;
-import org.dominokit.domino.history.TokenFilter;
+import org.dominokit.domino.history.DominoHistory;
 
 /**
  * Utility responsible for binding presenter instances to router token filters. Generated routing
- * classes delegate here to wire presenters to history changes.
+ * classes delegate here to wire presenters to history changes, all routes are dispatched by a
+ * single {@link RouteDispatcher} listening to the global router.
  */
 public class RouterManager {
 
+  private static RouteDispatcher dispatcher;
+  private static RouteLoading routeLoading;
+  private static RoutePrefetcher prefetcher;
+
+  /**
+   * @return the dispatcher of the global router routes
+   */
+  public static RouteDispatcher getDispatcher() {
+    if (isNull(dispatcher)) {
+      dispatcher = new RouteDispatcher(Brix.get().getCoreComponent().core().getRouter());
+    }
+    return dispatcher;
+  }
+
+  /**
+   * @return the prefetcher of the global router routes
+   */
+  public static RoutePrefetcher getPrefetcher() {
+    if (isNull(prefetcher)) {
+      prefetcher = new RoutePrefetcher(getDispatcher(), Brix.get().events().getScheduler());
+    }
+    return prefetcher;
+  }
+
+  /**
+   * Loads the code and creates the components of the routes matching a token ahead of navigation,
+   * see {@link RoutePrefetcher#prefetch(String)}.
+   *
+   * @param token history token of a future navigation
+   * @return the prefetch, can be cancelled
+   */
+  public static RoutePrefetch prefetch(String token) {
+    return getPrefetcher().prefetch(token);
+  }
+
+  /**
+   * @return the loading view configuration used while routed components are loaded on demand
+   */
+  public static RouteLoading getRouteLoading() {
+    if (isNull(routeLoading)) {
+      routeLoading = new RouteLoading();
+    }
+    return routeLoading;
+  }
+
+  /**
+   * Registers a route for a component loaded on demand. Navigations to the route wait for the
+   * component to load while the {@link #getRouteLoading() loading view} is revealed.
+   *
+   * @param routing provider exposing the route filter
+   * @param loader loads the component and creates its route binding
+   */
+  public static void initAsyncRoute(RoutingProvider routing, RouteLoader loader) {
+    getDispatcher().addRoute(routing, new AsyncRouteBinding(loader, getRouteLoading()));
+  }
+
   /**
    * Registers a route for a standalone presenter.
    *
@@ -37,33 +97,7 @@ public class RouterManager {
       RoutingProvider routing,
       ComponentProvider<? extends HasPresenterProvider<? extends PresenterProvider<P>>>
           componentProvider) {
-    Brix.get()
-        .getCoreComponent()
-        .core()
-        .getRouter()
-        .listen(
-            routing.getTokenFilter(),
-            state -> {
-              Presenter<?> presenter = componentProvider.get().getPresenterProvider().get();
-              presenter.bindToComponent(componentProvider);
-              presenter.setRoutingState(state);
-              if (!presenter.isActive()) {
-                presenter.activate();
-              }
-            });
-
-    Brix.get()
-        .getCoreComponent()
-        .core()
-        .getRouter()
-        .listen(
-            TokenFilter.not(routing.getTokenFilter()),
-            state -> {
-              Presenter<?> presenter = componentProvider.get().getPresenterProvider().get();
-              if (presenter.isActive()) {
-                presenter.detach();
-              }
-            });
+    getDispatcher().addRoute(routing, binding(componentProvider));
   }
 
   /**
@@ -81,32 +115,105 @@ public class RouterManager {
           componentProvider,
       ComponentProvider<? extends HasPresenterProvider<? extends PresenterProvider<P>>>
           parentProvider) {
-    Brix.get()
-        .getCoreComponent()
-        .core()
-        .getRouter()
-        .listen(
-            routing.getTokenFilter(),
-            state -> {
-              C presenter = componentProvider.get().getPresenterProvider().get();
-              presenter.bindToComponent(componentProvider);
-              presenter.setParent(parentProvider.get().getPresenterProvider().get());
-              presenter.setRoutingState(state);
-              if (!presenter.isActive()) {
-                presenter.activate();
-              }
-            });
-    Brix.get()
-        .getCoreComponent()
-        .core()
-        .getRouter()
-        .listen(
-            TokenFilter.not(routing.getTokenFilter()),
-            state -> {
-              C presenter = componentProvider.get().getPresenterProvider().get();
-              if (presenter.isActive()) {
-                presenter.detach();
-              }
-            });
+    getDispatcher().addRoute(routing, binding(componentProvider, parentProvider));
+  }
+
+  /**
+   * Creates the route binding activating a standalone presenter.
+   *
+   * @param componentProvider provider that supplies the presenter component
+   * @param <P> presenter type
+   * @return the route binding of the presenter
+   */
+  public static <P extends Presenter<?>> RouteBinding binding(
+      ComponentProvider<? extends HasPresenterProvider<? extends PresenterProvider<P>>>
+          componentProvider) {
+    return new PresenterBinding<>(componentProvider, presenter -> {});
+  }
+
+  /**
+   * Creates the route binding activating a child presenter under its parent presenter.
+   *
+   * @param componentProvider provider that supplies the child presenter component
+   * @param parentProvider provider that supplies the parent presenter component
+   * @param <P> parent presenter type
+   * @param <C> child presenter type
+   * @return the route binding of the child presenter
+   */
+  public static <P extends Presenter<?>, C extends ChildPresenter<P, ?>> RouteBinding binding(
+      ComponentProvider<? extends HasPresenterProvider<? extends PresenterProvider<C>>>
+          componentProvider,
+      ComponentProvider<? extends HasPresenterProvider<? extends PresenterProvider<P>>>
+          parentProvider) {
+    return new PresenterBinding<>(
+        componentProvider,
+        presenter -> {
+          componentProvider.setParent(parentProvider);
+          presenter.setParent(parentProvider.get().getPresenterProvider().get());
+        });
+  }
+
+  /**
+   * Activates the presenter of an entering route and detaches the presenter of a leaving one. The
+   * component is only looked up for routes whose match state changed, or that stay active.
+   */
+  private static final class PresenterBinding<T extends Presenter<?>> implements RouteBinding {
+    private final ComponentProvider<? extends HasPresenterProvider<? extends PresenterProvider<T>>>
+        componentProvider;
+    private final Consumer<T> onBind;
+
+    private PresenterBinding(
+        ComponentProvider<? extends HasPresenterProvider<? extends PresenterProvider<T>>>
+            componentProvider,
+        Consumer<T> onBind) {
+      this.componentProvider = componentProvider;
+      this.onBind = onBind;
+    }
+
+    @Override
+    public void enter(DominoHistory.State state) {
+      T presenter = componentProvider.get().getPresenterProvider().get();
+      onBind.accept(presenter);
+      presenter.bindToComponent(componentProvider);
+      presenter.setRoutingState(state);
+      if (!presenter.isActive()) {
+        presenter.activate();
+      }
+    }
+
+    @Override
+    public void stay(DominoHistory.State state) {
+      if (!componentProvider.isCreated()) {
+        enter(state);
+        return;
+      }
+      T presenter = componentProvider.get().getPresenterProvider().get();
+      if (presenter.isActive()) {
+        presenter.setRoutingState(state);
+      } else {
+        enter(state);
+      }
+    }
+
+    @Override
+    public void prepare() {
+      componentProvider.get();
+    }
+
+    @Override
+    public boolean isPrepared() {
+      return componentProvider.isCreated();
+    }
+
+    @Override
+    public void leave() {
+      if (!componentProvider.isCreated()) {
+        return;
+      }
+      T presenter = componentProvider.get().getPresenterProvider().get();
+      if (presenter.isActive()) {
+        presenter.detach();
+      }
+    }
   }
 }
@@ -50,6 +50,21 @@ public interface RoutingProvider {
     return false;
   }
 
+  /**
+   * Returns the path prefix the {@link #tokenFilter() token filter} requires, used by the {@link
+   * RouteDispatcher} to index the route. Routes that are not matched by a path prefix, such as
+   * fragment based routes, return {@code null} and are checked on every navigation.
+   *
+   * @return the required path prefix, empty when the route matches any token, or {@code null}
+   */
+  default String getPathPrefix() {
+    String path = getRoutingPath();
+    if (isNull(path) || path.trim().isEmpty()) {
+      return "";
+    }
+    return isHashBasedRouting() ? null : path;
+  }
+
   /**
    * @return a token filter that matches the routing path
    */
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/** Configuration of the asynchronous event delivery in {@link BrixEvents}. */
+public class AsyncEventOptions {
+
+  private int capacity = 1000;
+  private double sliceBudget = 8;
+  private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+  private DrainMode drainMode = DrainMode.MICROTASK;
+
+  /**
+   * @return new options with default values
+   */
+  public static AsyncEventOptions create() {
+    return new AsyncEventOptions();
+  }
+
+  /**
+   * @return the maximum number of pending events
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * @param capacity the maximum number of pending events, must be positive
+   * @return same options instance
+   */
+  public AsyncEventOptions setCapacity(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Async events capacity must be positive.");
+    }
+    this.capacity = capacity;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds a single drain slice may spend delivering events
+   */
+  public double getSliceBudget() {
+    return sliceBudget;
+  }
+
+  /**
+   * @param sliceBudget the time in milliseconds a single drain slice may spend delivering events,
+   *     at least one event is delivered per slice
+   * @return same options instance
+   */
+  public AsyncEventOptions setSliceBudget(double sliceBudget) {
+    this.sliceBudget = sliceBudget;
+    return this;
+  }
+
+  /**
+   * @return the policy applied when the backlog is full
+   */
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * @param overflowPolicy the policy applied when the backlog is full
+   * @return same options instance
+   */
+  public AsyncEventOptions setOverflowPolicy(OverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+    return this;
+  }
+
+  /**
+   * @return when the backlog is drained
+   */
+  public DrainMode getDrainMode() {
+    return drainMode;
+  }
+
+  /**
+   * @param drainMode when the backlog is drained
+   * @return same options instance
+   */
+  public AsyncEventOptions setDrainMode(DrainMode drainMode) {
+    this.drainMode = drainMode;
+    return this;
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Bounded backlog of asynchronously fired events. The backlog is drained in time-boxed slices so a
+ * burst of events never blocks the caller or a single frame for longer than the configured budget.
+ * In the {@link DrainMode#MICROTASK microtask mode} only the first slice runs as a microtask, the
+ * following slices are delayed tasks so the browser can handle input and render between them.
+ */
+class AsyncEventQueue {
+
+  private final BiConsumer<Object, BrixEvent> delivery;
+  private final CoalescePolicies policies;
+  private final Deque<Entry> queue = new ArrayDeque<>();
+  private final Map<CoalesceKey, Entry> latest = new HashMap<>();
+  private final AsyncEventStats stats = new AsyncEventStats();
+  private EventScheduler scheduler;
+  private AsyncEventOptions options = AsyncEventOptions.create();
+  private boolean scheduled = false;
+
+  AsyncEventQueue(
+      EventScheduler scheduler, CoalescePolicies policies, BiConsumer<Object, BrixEvent> delivery) {
+    this.scheduler = scheduler;
+    this.policies = policies;
+    this.delivery = delivery;
+  }
+
+  void setScheduler(EventScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  void setOptions(AsyncEventOptions options) {
+    this.options = options;
+  }
+
+  AsyncEventStats getStats() {
+    return stats;
+  }
+
+  void add(Object source, BrixEvent event) {
+    Entry entry = new Entry(source, event);
+    if (queue.size() >= options.getCapacity()) {
+      switch (options.getOverflowPolicy()) {
+        case COALESCE:
+          if (coalesce(entry)) {
+            return;
+          }
+          dropOldest();
+          break;
+        case BLOCK_SYNC:
+          drainAll();
+          deliver(entry);
+          return;
+        case DROP_OLDEST:
+        default:
+          dropOldest();
+          break;
+      }
+    }
+    queue.add(entry);
+    latest.put(entry.key, entry);
+    stats.onQueueDepth(queue.size());
+    scheduleDrain(false);
+  }
+
+  private boolean coalesce(Entry entry) {
+    Entry pending = latest.get(entry.key);
+    if (nonNull(pending)) {
+      BrixEvent merged = policies.merge(pending.event, entry.event);
+      if (nonNull(merged)) {
+        pending.event = merged;
+        stats.onCoalesced();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void dropOldest() {
+    forget(queue.poll());
+    stats.onDropped();
+  }
+
+  private void scheduleDrain(boolean continuation) {
+    if (!scheduled && !queue.isEmpty()) {
+      scheduled = true;
+      if (DrainMode.ANIMATION_FRAME == options.getDrainMode()) {
+        scheduler.scheduleFrame(this::drain);
+      } else if (continuation) {
+        // pending microtasks all run before input and rendering, a microtask would not yield.
+        scheduler.scheduleDelayed(this::drain, 0);
+      } else {
+        scheduler.schedule(this::drain);
+      }
+    }
+  }
+
+  private void drain() {
+    scheduled = false;
+    if (queue.isEmpty()) {
+      return;
+    }
+    double start = scheduler.now();
+    try {
+      do {
+        deliver(poll());
+      } while (!queue.isEmpty() && scheduler.now() - start < options.getSliceBudget());
+    } finally {
+      stats.onDrained(scheduler.now() - start);
+      scheduleDrain(true);
+    }
+  }
+
+  void drainAll() {
+    while (!queue.isEmpty()) {
+      deliver(poll());
+    }
+  }
+
+  void clear() {
+    queue.clear();
+    latest.clear();
+    stats.onQueueDepth(0);
+  }
+
+  private Entry poll() {
+    Entry entry = queue.poll();
+    forget(entry);
+    stats.onQueueDepth(queue.size());
+    return entry;
+  }
+
+  private void forget(Entry entry) {
+    if (latest.get(entry.key) == entry) {
+      latest.remove(entry.key);
+    }
+  }
+
+  private void deliver(Entry entry) {
+    stats.onDelivered();
+    delivery.accept(entry.source, entry.event);
+  }
+
+  private static final class Entry {
+    private final CoalesceKey key;
+    private final Object source;
+    private BrixEvent event;
+
+    private Entry(Object source, BrixEvent event) {
+      this.key = new CoalesceKey(source, event);
+      this.source = source;
+      this.event = event;
+    }
+  }
+}
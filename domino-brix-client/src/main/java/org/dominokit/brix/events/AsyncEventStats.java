@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/**
+ * Counters describing the asynchronous event backlog of {@link BrixEvents}. A growing queue depth
+ * or long drain times point to slow consumers.
+ */
+public final class AsyncEventStats {
+
+  private int queueDepth;
+  private int maxQueueDepth;
+  private long deliveredEvents;
+  private long droppedEvents;
+  private long coalescedEvents;
+  private double lastDrainTime;
+  private double maxDrainTime;
+
+  AsyncEventStats() {}
+
+  void onQueueDepth(int depth) {
+    this.queueDepth = depth;
+    this.maxQueueDepth = Math.max(maxQueueDepth, depth);
+  }
+
+  void onDelivered() {
+    deliveredEvents++;
+  }
+
+  void onDropped() {
+    droppedEvents++;
+  }
+
+  void onCoalesced() {
+    coalescedEvents++;
+  }
+
+  void onDrained(double drainTime) {
+    this.lastDrainTime = drainTime;
+    this.maxDrainTime = Math.max(maxDrainTime, drainTime);
+  }
+
+  /**
+   * @return number of events currently waiting for delivery
+   */
+  public int getQueueDepth() {
+    return queueDepth;
+  }
+
+  /**
+   * @return highest number of events that waited for delivery at the same time
+   */
+  public int getMaxQueueDepth() {
+    return maxQueueDepth;
+  }
+
+  /**
+   * @return number of events delivered asynchronously
+   */
+  public long getDeliveredEvents() {
+    return deliveredEvents;
+  }
+
+  /**
+   * @return number of events dropped because the backlog was full
+   */
+  public long getDroppedEvents() {
+    return droppedEvents;
+  }
+
+  /**
+   * @return number of events merged into pending events because the backlog was full
+   */
+  public long getCoalescedEvents() {
+    return coalescedEvents;
+  }
+
+  /**
+   * @return time in milliseconds spent by the last drain slice
+   */
+  public double getLastDrainTime() {
+    return lastDrainTime;
+  }
+
+  /**
+   * @return longest time in milliseconds spent by a single drain slice
+   */
+  public double getMaxDrainTime() {
+    return maxDrainTime;
+  }
+
+  @Override
+  public String toString() {
+    return "AsyncEventStats{"
+        + "queueDepth="
+        + queueDepth
+        + ", maxQueueDepth="
+        + maxQueueDepth
+        + ", deliveredEvents="
+        + deliveredEvents
+        + ", droppedEvents="
+        + droppedEvents
+        + ", coalescedEvents="
+        + coalescedEvents
+        + ", lastDrainTime="
+        + lastDrainTime
+        + ", maxDrainTime="
+        + maxDrainTime
+        + '}';
+  }
+}
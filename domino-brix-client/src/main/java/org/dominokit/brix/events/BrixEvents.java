@@ -15,30 +15,263 @@
  */
 package org.dominokit.brix.events;
 
-import java.util.HashSet;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import javax.inject.Singleton;
 
-/** Lightweight event bus for in-memory event dispatch between presenters. */
+/**
+ * Lightweight event bus for in-memory event dispatch between presenters.
+ *
+ * <p>Listeners that declare their {@link EventListener#getEventTypes() event types} are indexed by
+ * type and only receive matching events, listeners without declared types receive every event.
+ * Listeners subscribed to a supertype receive the events whose class lists it in the {@link
+ * EventHierarchy}, the listeners matching a concrete event class are resolved once and cached until
+ * a typed listener is added or removed. Listeners can also be {@link #register(EventListener,
+ * Object) registered for a source}, they are indexed by source identity and only offered the events
+ * fired by that source.
+ *
+ * <p>Events can also be {@link #fireDeferred(BrixEvent) deferred}, deferred events are queued and
+ * delivered once per {@link EventScheduler} tick, events of the same type and {@link KeyedEvent
+ * key} fired within the same tick are coalesced according to the type {@link CoalescePolicy}.
+ *
+ * <p>Events {@link #fireAsync(BrixEvent) fired asynchronously} go into a bounded backlog that is
+ * drained in time-boxed slices, see {@link AsyncEventOptions}.
+ *
+ * <p>{@link #fireSticky(BrixEvent) Sticky events} are retained after dispatch, the latest instance
+ * per type and {@link KeyedEvent key} is replayed to listeners registered later until it is
+ * removed.
+ *
+ * <p>{@link #createChild() Child buses} scope events to a part of the application. Events fired on
+ * a bus reach its listeners and the listeners of its descendant buses, but only reach the listeners
+ * of ancestor buses when they are explicitly {@link #fireAndPropagate(BrixEvent) propagated}.
+ * Sticky events retained by ancestor buses are replayed to listeners of child buses, unless a
+ * closer bus retains an event of the same type and key.
+ *
+ * <p>High frequency events can be {@link #firePooled(PooledEvent) fired from an EventPool}, the
+ * instance is reused once the synchronous dispatch completes.
+ *
+ * <p>Event types can be throttled or debounced with a {@link RateLimit}, set per bus or as a
+ * default in {@link RateLimits}. Rate limits apply to events fired with {@link
+ * #fireEvent(BrixEvent)} and {@link #firePooled(PooledEvent)}.
+ *
+ * <p>Listeners are registered in {@link EventPriority priority lanes}, high priority listeners are
+ * notified first and low priority listeners are notified when the browser is idle.
+ *
+ * <p>Fires, fan-out and listener latency can be collected by {@link #enableMetrics() enabling}
+ * {@link EventMetrics}, metrics are disabled by default.
+ *
+ * <p>Listeners may register or unregister while an event is being dispatched, the changes apply to
+ * the next dispatched event. A listener that throws does not prevent delivery to other listeners.
+ */
 @Singleton
 public class BrixEvents {
 
-  private final Set<EventListener> listeners = new HashSet<>();
+  private final BrixEvents parent;
+  private final CopyOnWriteListeners<BrixEvents> children = new CopyOnWriteListeners<>();
+  private final CopyOnWriteListeners<EventListener> taps = new CopyOnWriteListeners<>();
+  private boolean disposed = false;
+  private EventScheduler scheduler;
+  private EventMetrics metrics;
+
+  private final ListenerIndex listeners = new ListenerIndex();
+  private final Map<Object, ListenerIndex> sourceListeners = new IdentityHashMap<>();
+  private final Map<EventListener, Object> listenerSources = new HashMap<>();
+  private final ListenerCounts listenerCounts = new ListenerCounts();
+  private final CoalescePolicies coalescePolicies = new CoalescePolicies();
+  private final DeferredEventQueue deferredEvents;
+  private final AsyncEventQueue asyncEvents;
+  private final IdleEventQueue idleEvents;
+  private final Map<Class<? extends BrixEvent>, RateLimit> rateLimits = new HashMap<>();
+  private final RateLimitedEvents rateLimitedEvents;
+  private final Map<Class<? extends BrixEvent>, Map<Object, BrixEvent>> stickyEvents =
+      new LinkedHashMap<>();
+
+  /** Creates a root event bus scheduling deferred work with the {@link DomEventScheduler}. */
+  public BrixEvents() {
+    this(DomEventScheduler.INSTANCE);
+  }
+
+  /**
+   * Creates a root event bus using the given scheduler for deferred, async, idle and rate limited
+   * delivery, for example a {@link VirtualEventScheduler} when running outside a browser.
+   *
+   * @param scheduler event scheduler
+   */
+  public BrixEvents(EventScheduler scheduler) {
+    this(null, scheduler);
+  }
+
+  private BrixEvents(BrixEvents parent, EventScheduler scheduler) {
+    this.parent = parent;
+    this.scheduler = scheduler;
+    this.deferredEvents = new DeferredEventQueue(scheduler, coalescePolicies, this::dispatch);
+    this.asyncEvents = new AsyncEventQueue(scheduler, coalescePolicies, this::dispatch);
+    this.idleEvents = new IdleEventQueue(scheduler, this::deliverLowPriority);
+    this.rateLimitedEvents = new RateLimitedEvents(scheduler, this::dispatch);
+    if (nonNull(parent)) {
+      this.metrics = parent.metrics;
+    }
+  }
+
+  /**
+   * Creates a bus scoped under this one. The child bus is disposed together with this bus.
+   *
+   * @return new child bus
+   */
+  public BrixEvents createChild() {
+    BrixEvents child = new BrixEvents(this, scheduler);
+    children.add(child);
+    return child;
+  }
+
+  /**
+   * @return the bus this bus was created from, empty for a root bus
+   */
+  public Optional<BrixEvents> getParent() {
+    return Optional.ofNullable(parent);
+  }
+
+  /**
+   * Disposes this bus and its child buses, removing all listeners, sticky events and pending
+   * deferred or async events.
+   */
+  public void dispose() {
+    if (disposed) {
+      return;
+    }
+    disposed = true;
+    children.forEach(BrixEvents::dispose);
+    getParent().ifPresent(bus -> bus.children.remove(this));
+    for (BrixEvents bus = parent; nonNull(bus); bus = bus.parent) {
+      bus.listenerCounts.subtract(listenerCounts);
+    }
+    listenerCounts.clear();
+    listeners.clear();
+    taps.clear();
+    sourceListeners.clear();
+    listenerSources.clear();
+    stickyEvents.clear();
+    deferredEvents.clear();
+    asyncEvents.clear();
+    idleEvents.clear();
+    rateLimitedEvents.clear();
+  }
+
+  /**
+   * @return true if this bus was disposed
+   */
+  public boolean isDisposed() {
+    return disposed;
+  }
 
   /**
-   * Registers a listener to receive all fired events.
+   * Registers a listener to receive the events it subscribes to, or all fired events when the
+   * listener does not declare event types. Retained sticky events the listener subscribes to are
+   * replayed to it immediately. The listener is added to the lane of its {@link
+   * EventListener#getEventPriority() priority}.
    *
    * @param listener target listener
    * @return registration record for removing the listener
    */
   public RegistrationRecord register(EventListener listener) {
-    listeners.add(listener);
+    return register(listener, listener.getEventPriority());
+  }
+
+  /**
+   * Registers a listener in the given priority lane. For every event, {@link EventPriority#HIGH}
+   * listeners are notified first, then {@link EventPriority#NORMAL} listeners, while {@link
+   * EventPriority#LOW} listeners are notified once the browser is idle.
+   *
+   * @param listener target listener
+   * @param priority listener priority lane
+   * @return registration record for removing the listener
+   */
+  public RegistrationRecord register(EventListener listener, EventPriority priority) {
+    return register(listener, null, priority);
+  }
+
+  /**
+   * Registers a listener that only receives events fired by the given source, compared by identity.
+   * The source of an event is the source it was created with, or the source passed when firing it.
+   *
+   * @param listener target listener
+   * @param source source the listener is interested in
+   * @return registration record for removing the listener
+   */
+  public RegistrationRecord register(EventListener listener, Object source) {
+    return register(listener, source, listener.getEventPriority());
+  }
+
+  /**
+   * Registers a listener in the given priority lane that only receives events fired by the given
+   * source.
+   *
+   * @param listener target listener
+   * @param source source the listener is interested in, {@code null} for events of any source
+   * @param priority listener priority lane
+   * @return registration record for removing the listener
+   */
+  public RegistrationRecord register(
+      EventListener listener, Object source, EventPriority priority) {
+    unregister(listener);
+    Set<Class<?>> eventTypes = listener.getEventTypes();
+    if (isNull(source)) {
+      listeners.add(listener, eventTypes, priority);
+    } else {
+      listenerSources.put(listener, source);
+      sourceListeners
+          .computeIfAbsent(source, key -> new ListenerIndex())
+          .add(listener, eventTypes, priority);
+    }
+    countListener(eventTypes, 1);
+    replaySticky(listener, eventTypes, source);
     return () -> unregister(listener);
   }
 
+  /**
+   * Adds a tap observing every event dispatched on this bus or on any of its descendant buses,
+   * including propagated, deferred, async and rate limited events once they are delivered. A tap is
+   * notified once per dispatched event before the listeners, regardless of event types, priorities
+   * and sources, and sticky events are not replayed to it. A tap counts as a listener of every type
+   * for {@link #hasListeners(Class)}, so supplied events are built while a tap is registered.
+   *
+   * @param tap listener observing the dispatched events
+   * @return registration record for removing the tap
+   */
+  public RegistrationRecord tap(EventListener tap) {
+    taps.add(tap);
+    return () -> taps.remove(tap);
+  }
+
   /** Removes the listener from the bus. */
   public void unregister(EventListener listener) {
-    listeners.remove(listener);
+    Object source = listenerSources.remove(listener);
+    ListenerIndex index = isNull(source) ? listeners : sourceListeners.get(source);
+    if (!index.contains(listener)) {
+      return;
+    }
+    Set<Class<?>> eventTypes = index.typesOf(listener);
+    index.remove(listener);
+    if (nonNull(source) && index.isEmpty()) {
+      sourceListeners.remove(source);
+    }
+    countListener(eventTypes, -1);
+  }
+
+  private void countListener(Set<Class<?>> eventTypes, int delta) {
+    for (BrixEvents bus = this; nonNull(bus); bus = bus.parent) {
+      bus.listenerCounts.add(eventTypes, delta);
+    }
   }
 
   /**
@@ -50,6 +283,44 @@ public class BrixEvents {
     fireEvent(null, event);
   }
 
+  /**
+   * Fires an event built by the supplier only when a listener of this bus or of a descendant bus
+   * subscribes to the type, or a tap observes the bus, use it to skip building expensive payloads
+   * no listener would receive.
+   *
+   * @param type type of the supplied event
+   * @param supplier builds the event
+   * @param <E> event type
+   */
+  public <E extends BrixEvent> void fireEvent(Class<E> type, Supplier<? extends E> supplier) {
+    if (hasListeners(type)) {
+      fireEvent(supplier.get());
+    }
+  }
+
+  /**
+   * Checks if an event of the type fired on this bus would be offered to any listener, including
+   * listeners registered for a source, listeners of descendant buses and the {@link
+   * #tap(EventListener) taps} of this bus and its ancestors. The check is answered from per type
+   * listener counts kept for the bus and its descendants and the {@link EventHierarchy}, without
+   * walking the descendant buses or creating an event.
+   *
+   * @param type event type
+   * @return true if at least one listener subscribes to the type or a tap observes the bus
+   */
+  public boolean hasListeners(Class<? extends BrixEvent> type) {
+    return listenerCounts.hasListeners(type) || isTapped();
+  }
+
+  private boolean isTapped() {
+    for (BrixEvents bus = this; nonNull(bus); bus = bus.parent) {
+      if (!bus.taps.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Fires an event, validating the source for listeners.
    *
@@ -60,12 +331,452 @@ public class BrixEvents {
    * @param event event payload
    */
   public void fireEvent(Object source, BrixEvent event) {
+    validateSource(source, event);
+    fire(sourceOf(source, event), event);
+  }
+
+  /**
+   * Fires an event without applying the {@link RateLimit} of its type, for events that were already
+   * rate limited where they originated, such as events received from another tab.
+   *
+   * @param event event to dispatch
+   */
+  public void fireImmediately(BrixEvent event) {
+    dispatch(sourceOf(null, event), event);
+  }
+
+  /**
+   * Fires an event without a source on this bus and all its ancestors.
+   *
+   * @param event event to dispatch
+   */
+  public void fireAndPropagate(BrixEvent event) {
+    fireAndPropagate(null, event);
+  }
+
+  /**
+   * Fires an event on this bus and its descendants, then delivers it to the listeners of each
+   * ancestor bus up to the root.
+   *
+   * @param source object that raised the event
+   * @param event event payload
+   */
+  public void fireAndPropagate(Object source, BrixEvent event) {
+    validateSource(source, event);
+    Object eventSource = sourceOf(source, event);
+    if (nonNull(metrics)) {
+      int fanOut = countListeners(eventSource, event);
+      for (BrixEvents bus = parent; nonNull(bus); bus = bus.parent) {
+        fanOut += bus.countOwnListeners(eventSource, event);
+      }
+      metrics.onFired(event, fanOut);
+    }
+    notifyTaps(event);
+    broadcast(eventSource, event);
+    for (BrixEvents bus = parent; nonNull(bus); bus = bus.parent) {
+      bus.deliver(eventSource, event);
+    }
+  }
+
+  /**
+   * Fires a pooled event without a source.
+   *
+   * @param event event acquired from an {@link EventPool}
+   */
+  public void firePooled(PooledEvent<?> event) {
+    firePooled(null, event);
+  }
+
+  /**
+   * Fires an event acquired from an {@link EventPool} and returns it to its pool once the
+   * synchronous dispatch completes. Low priority listeners, and any queue or store of the bus
+   * holding the event longer, receive a detached copy.
+   *
+   * @param source object that raised the event
+   * @param event event acquired from an {@link EventPool}
+   */
+  public void firePooled(Object source, PooledEvent<?> event) {
+    validateSource(source, event);
+    try {
+      fire(sourceOf(source, event), event);
+    } finally {
+      event.release();
+    }
+  }
+
+  /**
+   * Fires a sticky event without a source.
+   *
+   * @param event event to dispatch and retain
+   */
+  public void fireSticky(BrixEvent event) {
+    fireSticky(null, event);
+  }
+
+  /**
+   * Fires an event and retains it as the sticky event of its type, or of its type and key for a
+   * {@link KeyedEvent}, replacing the previously retained one. The retained event is replayed to
+   * every listener registered later until it is removed.
+   *
+   * @param source object that raised the event
+   * @param event event payload
+   */
+  public void fireSticky(Object source, BrixEvent event) {
+    validateSource(source, event);
+    stickyEvents
+        .computeIfAbsent(event.getType(), type -> new LinkedHashMap<>())
+        .put(stickyKey(event), detached(event));
+    dispatch(sourceOf(source, event), event);
+  }
+
+  /**
+   * @param type event type
+   * @param <E> event type
+   * @return the retained sticky event of the given type that has no key
+   */
+  public <E extends BrixEvent> Optional<E> getStickyEvent(Class<E> type) {
+    return getStickyEvent(type, null);
+  }
+
+  /**
+   * @param type event type
+   * @param key {@link KeyedEvent} key
+   * @param <E> event type
+   * @return the retained sticky event of the given type and key
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends BrixEvent> Optional<E> getStickyEvent(Class<E> type, Object key) {
+    Map<Object, BrixEvent> typeEvents = stickyEvents.get(type);
+    return isNull(typeEvents) ? Optional.empty() : Optional.ofNullable((E) typeEvents.get(key));
+  }
+
+  /**
+   * Removes all retained sticky events of the given type regardless of their key.
+   *
+   * @param type event type
+   */
+  public void removeStickyEvents(Class<? extends BrixEvent> type) {
+    stickyEvents.remove(type);
+  }
+
+  /**
+   * Removes the retained sticky event of the given type and key.
+   *
+   * @param type event type
+   * @param key {@link KeyedEvent} key, {@code null} for events without a key
+   */
+  public void removeStickyEvent(Class<? extends BrixEvent> type, Object key) {
+    Map<Object, BrixEvent> typeEvents = stickyEvents.get(type);
+    if (nonNull(typeEvents)) {
+      typeEvents.remove(key);
+      if (typeEvents.isEmpty()) {
+        stickyEvents.remove(type);
+      }
+    }
+  }
+
+  /** Removes all retained sticky events. */
+  public void clearStickyEvents() {
+    stickyEvents.clear();
+  }
+
+  /**
+   * Queues an event without a source for delivery on the next scheduler tick.
+   *
+   * @param event event to dispatch
+   */
+  public void fireDeferred(BrixEvent event) {
+    fireDeferred(null, event);
+  }
+
+  /**
+   * Queues an event for delivery on the next scheduler tick, the event reaches the listeners
+   * registered for the given source. A pending event of the same type, key and source is combined
+   * with this one using the {@link CoalescePolicy} of the event type, by default only the latest
+   * event is delivered.
+   *
+   * @param source object that raised the event
+   * @param event event payload
+   */
+  public void fireDeferred(Object source, BrixEvent event) {
+    validateSource(source, event);
+    deferredEvents.add(sourceOf(source, event), detached(event));
+  }
+
+  /** Delivers all pending deferred events immediately. */
+  public void flushDeferred() {
+    deferredEvents.flush();
+  }
+
+  /**
+   * Fires an event without a source asynchronously.
+   *
+   * @param event event to dispatch
+   */
+  public void fireAsync(BrixEvent event) {
+    fireAsync(null, event);
+  }
+
+  /**
+   * Adds an event to the async backlog and returns immediately, the event reaches the listeners
+   * registered for the given source once delivered. The backlog is drained in time-boxed slices
+   * according to the configured {@link AsyncEventOptions}, when the backlog is full the configured
+   * {@link OverflowPolicy} applies.
+   *
+   * @param source object that raised the event
+   * @param event event payload
+   */
+  public void fireAsync(Object source, BrixEvent event) {
+    validateSource(source, event);
+    asyncEvents.add(sourceOf(source, event), detached(event));
+  }
+
+  /** Notifies the low priority listeners of all pending events immediately. */
+  public void flushLowPriority() {
+    idleEvents.flush();
+  }
+
+  /** Delivers all pending async events immediately. */
+  public void flushAsync() {
+    asyncEvents.drainAll();
+  }
+
+  /**
+   * Configures asynchronous event delivery.
+   *
+   * @param options async delivery options
+   */
+  public void setAsyncOptions(AsyncEventOptions options) {
+    asyncEvents.setOptions(options);
+  }
+
+  /**
+   * @return live statistics of the async event backlog
+   */
+  public AsyncEventStats getAsyncStats() {
+    return asyncEvents.getStats();
+  }
+
+  /**
+   * Sets how deferred and async events of the given type are coalesced.
+   *
+   * @param type event type
+   * @param policy coalesce policy, {@code null} restores the default keep-last policy
+   * @param <E> event type
+   */
+  public <E extends BrixEvent> void setCoalescePolicy(Class<E> type, CoalescePolicy<E> policy) {
+    coalescePolicies.set(type, policy);
+  }
+
+  /**
+   * Throttles or debounces the events of the given type fired on this bus and its child buses,
+   * overriding the default registered in {@link RateLimits}.
+   *
+   * @param type event type
+   * @param limit rate limit, {@code null} restores the inherited or default limit
+   */
+  public void setRateLimit(Class<? extends BrixEvent> type, RateLimit limit) {
+    if (isNull(limit)) {
+      rateLimits.remove(type);
+    } else {
+      rateLimits.put(type, limit);
+    }
+  }
+
+  /**
+   * Replaces the scheduler used to deliver deferred, async and rate limited events.
+   *
+   * @param scheduler event scheduler
+   */
+  public void setScheduler(EventScheduler scheduler) {
+    this.scheduler = scheduler;
+    deferredEvents.setScheduler(scheduler);
+    asyncEvents.setScheduler(scheduler);
+    idleEvents.setScheduler(scheduler);
+    rateLimitedEvents.setScheduler(scheduler);
+  }
+
+  /**
+   * @return the scheduler used to deliver deferred, async and rate limited events
+   */
+  public EventScheduler getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * Starts collecting {@link EventMetrics} on this bus and its child buses, replacing previously
+   * collected metrics.
+   *
+   * @return the metrics being collected
+   */
+  public EventMetrics enableMetrics() {
+    EventMetrics eventMetrics = new EventMetrics(scheduler);
+    setMetrics(eventMetrics);
+    return eventMetrics;
+  }
+
+  /** Stops collecting metrics on this bus and its child buses. */
+  public void disableMetrics() {
+    setMetrics(null);
+  }
+
+  /**
+   * @return the metrics being collected, empty when metrics are disabled
+   */
+  public Optional<EventMetrics> getMetrics() {
+    return Optional.ofNullable(metrics);
+  }
+
+  private void setMetrics(EventMetrics metrics) {
+    this.metrics = metrics;
+    children.forEach(child -> child.setMetrics(metrics));
+  }
+
+  private void validateSource(Object source, BrixEvent event) {
     if (event.getSource().isPresent()) {
       Object existing = event.getSource().orElse(null);
       if (source != null && existing != source) {
         throw new IllegalStateException("Event source is immutable and already set.");
       }
     }
-    listeners.forEach(listener -> listener.onEventReceived(event));
+  }
+
+  private static BrixEvent detached(BrixEvent event) {
+    return event instanceof PooledEvent ? ((PooledEvent<?>) event).retain() : event;
+  }
+
+  private static Object stickyKey(BrixEvent event) {
+    return event instanceof KeyedEvent ? ((KeyedEvent) event).getEventKey() : null;
+  }
+
+  private static Object sourceOf(Object source, BrixEvent event) {
+    return nonNull(source) ? source : event.getSource().orElse(null);
+  }
+
+  private void replaySticky(EventListener listener, Set<Class<?>> eventTypes, Object source) {
+    // the sticky event of the nearest bus replaces the ones its ancestors retained for a type and
+    // key, an ancestor event may be older than the one fired on this bus.
+    Map<Class<?>, Map<Object, BrixEvent>> nearest = new LinkedHashMap<>();
+    for (BrixEvents bus = this; nonNull(bus); bus = bus.parent) {
+      bus.stickyEvents.forEach(
+          (type, typeEvents) -> {
+            Map<Object, BrixEvent> nearestEvents =
+                nearest.computeIfAbsent(type, key -> new LinkedHashMap<>());
+            typeEvents.forEach(nearestEvents::putIfAbsent);
+          });
+    }
+    List<BrixEvent> replayed = new ArrayList<>();
+    nearest
+        .values()
+        .forEach(
+            typeEvents ->
+                typeEvents
+                    .values()
+                    .forEach(
+                        event -> {
+                          if ((isNull(eventTypes) || isSubscribed(eventTypes, event))
+                              && (isNull(source) || sourceOf(null, event) == source)) {
+                            replayed.add(event);
+                          }
+                        }));
+    replayed.forEach(listener::onEventReceived);
+  }
+
+  private static boolean isSubscribed(Set<Class<?>> eventTypes, BrixEvent event) {
+    for (Class<?> type : EventHierarchy.typesOf(event)) {
+      if (eventTypes.contains(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void fire(Object source, BrixEvent event) {
+    RateLimit limit = rateLimitOf(event.getType());
+    if (isNull(limit)) {
+      dispatch(source, event);
+    } else {
+      rateLimitedEvents.offer(limit, source, detached(event));
+    }
+  }
+
+  private RateLimit rateLimitOf(Class<? extends BrixEvent> type) {
+    for (BrixEvents bus = this; nonNull(bus); bus = bus.parent) {
+      RateLimit limit = bus.rateLimits.isEmpty() ? null : bus.rateLimits.get(type);
+      if (nonNull(limit)) {
+        return limit;
+      }
+    }
+    return RateLimits.get(type);
+  }
+
+  private void dispatch(Object source, BrixEvent event) {
+    if (nonNull(metrics)) {
+      metrics.onFired(event, countListeners(source, event));
+    }
+    notifyTaps(event);
+    broadcast(source, event);
+  }
+
+  private void notifyTaps(BrixEvent event) {
+    for (BrixEvents bus = this; nonNull(bus); bus = bus.parent) {
+      if (!bus.taps.isEmpty()) {
+        bus.taps.dispatch(EventListener::onEventReceived, event);
+      }
+    }
+  }
+
+  private void broadcast(Object source, BrixEvent event) {
+    deliver(source, event);
+    if (!children.isEmpty()) {
+      children.forEach(child -> child.broadcast(source, event));
+    }
+  }
+
+  private void deliver(Object source, BrixEvent event) {
+    ListenerIndex sourceIndex = sourceIndex(source);
+    notify(listeners, sourceIndex, EventPriority.HIGH, event);
+    notify(listeners, sourceIndex, EventPriority.NORMAL, event);
+    if (listeners.hasListeners(event, EventPriority.LOW)
+        || (nonNull(sourceIndex) && sourceIndex.hasListeners(event, EventPriority.LOW))) {
+      idleEvents.add(source, detached(event));
+    }
+  }
+
+  private void deliverLowPriority(Object source, BrixEvent event) {
+    notify(listeners, sourceIndex(source), EventPriority.LOW, event);
+  }
+
+  private ListenerIndex sourceIndex(Object source) {
+    return isNull(source) || sourceListeners.isEmpty() ? null : sourceListeners.get(source);
+  }
+
+  private void notify(
+      ListenerIndex index, ListenerIndex sourceIndex, EventPriority priority, BrixEvent event) {
+    notify(index.typed(event, priority), event);
+    notify(index.wildcard(priority), event);
+    if (nonNull(sourceIndex)) {
+      notify(sourceIndex.typed(event, priority), event);
+      notify(sourceIndex.wildcard(priority), event);
+    }
+  }
+
+  private void notify(CopyOnWriteListeners<EventListener> lane, BrixEvent event) {
+    if (isNull(metrics)) {
+      lane.dispatch(EventListener::onEventReceived, event);
+    } else {
+      lane.dispatch(metrics::deliver, event);
+    }
+  }
+
+  private int countOwnListeners(Object source, BrixEvent event) {
+    ListenerIndex sourceIndex = sourceIndex(source);
+    return listeners.size(event) + (nonNull(sourceIndex) ? sourceIndex.size(event) : 0);
+  }
+
+  private int countListeners(Object source, BrixEvent event) {
+    int[] count = {countOwnListeners(source, event)};
+    children.forEach(child -> count[0] += child.countListeners(source, event));
+    return count[0];
   }
 }
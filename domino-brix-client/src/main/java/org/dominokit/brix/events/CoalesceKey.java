@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import java.util.Objects;
+
+/**
+ * Identifies events that may be coalesced with each other, by event type and event key, and
+ * optionally by the identity of the source they are fired with.
+ */
+final class CoalesceKey {
+  private final Class<? extends BrixEvent> type;
+  private final Object key;
+  private final Object source;
+
+  CoalesceKey(BrixEvent event) {
+    this(null, event);
+  }
+
+  CoalesceKey(Object source, BrixEvent event) {
+    this.type = event.getType();
+    this.key = event instanceof KeyedEvent ? ((KeyedEvent) event).getEventKey() : null;
+    this.source = source;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CoalesceKey)) {
+      return false;
+    }
+    CoalesceKey that = (CoalesceKey) o;
+    return type.equals(that.type) && Objects.equals(key, that.key) && source == that.source;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, key, System.identityHashCode(source));
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** Registry of {@link CoalescePolicy} per event type, defaulting to keep the last event. */
+class CoalescePolicies {
+
+  private static final CoalescePolicy<BrixEvent> DEFAULT_POLICY = CoalescePolicy.keepLast();
+
+  private final Map<Class<? extends BrixEvent>, CoalescePolicy<BrixEvent>> policies =
+      new HashMap<>();
+
+  @SuppressWarnings("unchecked")
+  <E extends BrixEvent> void set(Class<E> type, CoalescePolicy<E> policy) {
+    if (isNull(policy)) {
+      policies.remove(type);
+    } else {
+      policies.put(type, (CoalescePolicy<BrixEvent>) policy);
+    }
+  }
+
+  /**
+   * Merges a fired event into a pending event of the same type and key.
+   *
+   * @return the merged event, or {@code null} when both events must be kept
+   */
+  BrixEvent merge(BrixEvent pending, BrixEvent fired) {
+    return policies.getOrDefault(fired.getType(), DEFAULT_POLICY).merge(pending, fired);
+  }
+}
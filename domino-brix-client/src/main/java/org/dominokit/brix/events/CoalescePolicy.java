@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/**
+ * Decides how a deferred event is combined with a pending event of the same type and key before
+ * delivery.
+ *
+ * @param <E> event type
+ */
+@FunctionalInterface
+public interface CoalescePolicy<E extends BrixEvent> {
+
+  /**
+   * Combines the pending event with a newly fired one.
+   *
+   * @param pending event already waiting for delivery
+   * @param fired newly fired event
+   * @return the event to deliver in place of the pending one, or {@code null} to deliver both
+   */
+  E merge(E pending, E fired);
+
+  /**
+   * @return policy that only delivers the latest fired event
+   */
+  static <E extends BrixEvent> CoalescePolicy<E> keepLast() {
+    return (pending, fired) -> fired;
+  }
+
+  /**
+   * @return policy that delivers every fired event in order
+   */
+  static <E extends BrixEvent> CoalescePolicy<E> keepAll() {
+    return (pending, fired) -> null;
+  }
+}
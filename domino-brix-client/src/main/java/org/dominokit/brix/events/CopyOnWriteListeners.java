@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listener collection backed by an array snapshot that is only rebuilt when listeners are added or
+ * removed. Dispatch iterates the snapshot taken when it started, so listeners can safely register
+ * or unregister while it runs, changes apply to the next dispatch. Listeners are notified in
+ * registration order and an exception thrown by one listener is logged without stopping delivery to
+ * the rest.
+ *
+ * @param <T> listener type
+ */
+public final class CopyOnWriteListeners<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CopyOnWriteListeners.class);
+  private static final Object[] EMPTY = new Object[0];
+
+  private Object[] listeners = EMPTY;
+
+  /**
+   * Adds a listener, listeners that are already registered are ignored.
+   *
+   * @param listener listener to add
+   * @return true if the listener was added
+   */
+  public boolean add(T listener) {
+    if (indexOf(listener) >= 0) {
+      return false;
+    }
+    Object[] updated = new Object[listeners.length + 1];
+    System.arraycopy(listeners, 0, updated, 0, listeners.length);
+    updated[listeners.length] = listener;
+    listeners = updated;
+    return true;
+  }
+
+  /**
+   * Removes a listener.
+   *
+   * @param listener listener to remove
+   * @return true if the listener was registered
+   */
+  public boolean remove(T listener) {
+    int index = indexOf(listener);
+    if (index < 0) {
+      return false;
+    }
+    if (listeners.length == 1) {
+      listeners = EMPTY;
+      return true;
+    }
+    Object[] updated = new Object[listeners.length - 1];
+    System.arraycopy(listeners, 0, updated, 0, index);
+    System.arraycopy(listeners, index + 1, updated, index, updated.length - index);
+    listeners = updated;
+    return true;
+  }
+
+  /** Removes all listeners. */
+  public void clear() {
+    listeners = EMPTY;
+  }
+
+  /**
+   * @return true if no listener is registered
+   */
+  public boolean isEmpty() {
+    return listeners.length == 0;
+  }
+
+  /**
+   * @return the number of registered listeners
+   */
+  public int size() {
+    return listeners.length;
+  }
+
+  /**
+   * Calls the action for every listener registered when the dispatch starts. Passing the argument
+   * separately allows callers to use a non-capturing action so dispatching does not allocate.
+   *
+   * @param action action to call for each listener
+   * @param argument argument passed to the action
+   * @param <A> argument type
+   */
+  @SuppressWarnings("unchecked")
+  public <A> void dispatch(BiConsumer<? super T, ? super A> action, A argument) {
+    Object[] snapshot = listeners;
+    for (int i = 0; i < snapshot.length; i++) {
+      try {
+        action.accept((T) snapshot[i], argument);
+      } catch (RuntimeException e) {
+        LOGGER.error("Listener [" + snapshot[i] + "] failed.", e);
+      }
+    }
+  }
+
+  /**
+   * Calls the action for every registered listener without isolating exceptions.
+   *
+   * @param action action to call for each listener
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(Consumer<? super T> action) {
+    Object[] snapshot = listeners;
+    for (int i = 0; i < snapshot.length; i++) {
+      action.accept((T) snapshot[i]);
+    }
+  }
+
+  private int indexOf(T listener) {
+    for (int i = 0; i < listeners.length; i++) {
+      if (listeners[i].equals(listener)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects deferred events and delivers them once per scheduler tick with the source they were
+ * fired with. Events of the same type, {@link KeyedEvent key} and source are combined using the
+ * {@link CoalescePolicy} registered for their type.
+ */
+class DeferredEventQueue {
+
+  private final BiConsumer<Object, BrixEvent> delivery;
+  private final CoalescePolicies policies;
+  private List<Entry> pending = new ArrayList<>();
+  private final Map<CoalesceKey, Integer> positions = new HashMap<>();
+  private EventScheduler scheduler;
+  private boolean scheduled = false;
+
+  DeferredEventQueue(
+      EventScheduler scheduler, CoalescePolicies policies, BiConsumer<Object, BrixEvent> delivery) {
+    this.scheduler = scheduler;
+    this.policies = policies;
+    this.delivery = delivery;
+  }
+
+  void setScheduler(EventScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  void add(Object source, BrixEvent event) {
+    CoalesceKey key = new CoalesceKey(source, event);
+    Integer position = positions.get(key);
+    if (nonNull(position)) {
+      Entry entry = pending.get(position);
+      BrixEvent merged = policies.merge(entry.event, event);
+      if (nonNull(merged)) {
+        entry.event = merged;
+        return;
+      }
+    }
+    positions.put(key, pending.size());
+    pending.add(new Entry(source, event));
+    if (!scheduled) {
+      scheduled = true;
+      scheduler.schedule(this::flush);
+    }
+  }
+
+  void clear() {
+    pending.clear();
+    positions.clear();
+  }
+
+  void flush() {
+    scheduled = false;
+    List<Entry> entries = pending;
+    pending = new ArrayList<>();
+    positions.clear();
+    entries.forEach(entry -> delivery.accept(entry.source, entry.event));
+  }
+
+  private static final class Entry {
+    private final Object source;
+    private BrixEvent event;
+
+    private Entry(Object source, BrixEvent event) {
+      this.source = source;
+      this.event = event;
+    }
+  }
+}
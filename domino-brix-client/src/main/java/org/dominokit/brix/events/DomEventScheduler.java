@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import elemental2.dom.DomGlobal;
+import jsinterop.base.Js;
+
+/**
+ * Default {@link EventScheduler} that runs tasks as browser microtasks, frame tasks using {@code
+ * requestAnimationFrame} and idle tasks using {@code requestIdleCallback}, falling back to a
+ * timeout in browsers without idle callbacks. The browser is only accessed once a task is
+ * scheduled, support for idle callbacks is checked on the first idle task.
+ */
+public class DomEventScheduler implements EventScheduler {
+
+  public static final EventScheduler INSTANCE = new DomEventScheduler();
+
+  private Boolean idleCallbackSupported;
+
+  @Override
+  public void schedule(Runnable task) {
+    DomGlobal.queueMicrotask(task::run);
+  }
+
+  @Override
+  public void scheduleFrame(Runnable task) {
+    DomGlobal.requestAnimationFrame(timestamp -> task.run());
+  }
+
+  @Override
+  public void scheduleIdle(Runnable task) {
+    if (isIdleCallbackSupported()) {
+      DomGlobal.requestIdleCallback(deadline -> task.run());
+    } else {
+      DomGlobal.setTimeout(ignore -> task.run(), 1);
+    }
+  }
+
+  private boolean isIdleCallbackSupported() {
+    if (isNull(idleCallbackSupported)) {
+      idleCallbackSupported = Js.asPropertyMap(DomGlobal.window).has("requestIdleCallback");
+    }
+    return idleCallbackSupported;
+  }
+
+  @Override
+  public void scheduleDelayed(Runnable task, double delay) {
+    DomGlobal.setTimeout(ignore -> task.run(), delay);
+  }
+
+  @Override
+  public double now() {
+    return DomGlobal.performance.now();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Table of the types each event class can be subscribed to: the class itself followed by its
+ * superclasses and interfaces. The entries are computed at compile time, the processor generates a
+ * {@code <Event>_EventType} initializer for every concrete event class that has supertypes, which
+ * registers the entry when the application starts, so resolving the types of an event costs a
+ * single table lookup. Events of classes without an entry only match their own class.
+ */
+public final class EventHierarchy {
+
+  private static final Map<Class<?>, Class<?>[]> table = new HashMap<>();
+
+  private EventHierarchy() {}
+
+  /**
+   * Registers the supertypes of a concrete event class, replacing a previous registration. Entries
+   * must be registered before events of the class are dispatched.
+   *
+   * @param type concrete event class
+   * @param supertypes superclasses and interfaces of the event class listeners can subscribe to
+   */
+  public static void register(Class<? extends BrixEvent> type, Class<?>... supertypes) {
+    Class<?>[] types = new Class<?>[supertypes.length + 1];
+    types[0] = type;
+    System.arraycopy(supertypes, 0, types, 1, supertypes.length);
+    table.put(type, types);
+  }
+
+  /**
+   * Returns the concrete type of the event followed by its registered supertypes.
+   *
+   * @param event dispatched event
+   * @return types the event can be subscribed to, the returned array must not be modified
+   */
+  public static Class<?>[] typesOf(BrixEvent event) {
+    return typesOf(event.getType());
+  }
+
+  /**
+   * Returns the event class followed by its registered supertypes.
+   *
+   * @param type concrete event class
+   * @return types events of the class can be subscribed to, the returned array must not be modified
+   */
+  public static Class<?>[] typesOf(Class<?> type) {
+    Class<?>[] types = table.get(type);
+    return isNull(types) ? new Class<?>[] {type} : types;
+  }
+}
@@ -15,12 +15,34 @@
  */
 package org.dominokit.brix.events;
 
+import java.util.Set;
+
 /** Receives events published on {@link BrixEvents}. */
 public interface EventListener {
   /**
-   * Called for every event fired on the bus.
+   * Called for every event fired on the bus that matches this listener subscriptions.
    *
    * @param event dispatched event
    */
   void onEventReceived(BrixEvent event);
+
+  /**
+   * Returns the event types this listener subscribes to. The bus indexes listeners by these types
+   * and only offers matching events to them. Abstract classes and interfaces match the events whose
+   * class lists them as supertypes in the {@link EventHierarchy}.
+   *
+   * @return subscribed event types, or {@code null} to receive every fired event
+   */
+  default Set<Class<?>> getEventTypes() {
+    return null;
+  }
+
+  /**
+   * Returns the priority lane used when the listener is registered without an explicit priority.
+   *
+   * @return listener priority, {@link EventPriority#NORMAL} by default
+   */
+  default EventPriority getEventPriority() {
+    return EventPriority.NORMAL;
+  }
 }
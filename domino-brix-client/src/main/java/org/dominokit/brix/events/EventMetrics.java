@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opt-in instrumentation of {@link BrixEvents}, counting fires and fan-out per event type and the
+ * time spent in each listener class. Metrics are only collected while enabled on the bus, a bus
+ * without metrics pays a single null check per dispatch.
+ */
+public final class EventMetrics {
+
+  private final Map<Class<?>, EventTypeMetrics> eventTypes = new LinkedHashMap<>();
+  private final Map<Class<?>, MetricsHistogram> listeners = new LinkedHashMap<>();
+  private final EventScheduler clock;
+
+  EventMetrics(EventScheduler clock) {
+    this.clock = clock;
+  }
+
+  void onFired(BrixEvent event, int fanOut) {
+    EventTypeMetrics typeMetrics = eventTypes.get(event.getType());
+    if (isNull(typeMetrics)) {
+      typeMetrics = new EventTypeMetrics();
+      eventTypes.put(event.getType(), typeMetrics);
+    }
+    typeMetrics.onFired(fanOut);
+  }
+
+  void deliver(EventListener listener, BrixEvent event) {
+    double start = clock.now();
+    try {
+      listener.onEventReceived(event);
+    } finally {
+      MetricsHistogram latency = listeners.get(listener.getClass());
+      if (isNull(latency)) {
+        latency = MetricsHistogram.latency();
+        listeners.put(listener.getClass(), latency);
+      }
+      latency.record(clock.now() - start);
+    }
+  }
+
+  /**
+   * @return metrics per fired event type
+   */
+  public Map<Class<?>, EventTypeMetrics> getEventTypes() {
+    return Collections.unmodifiableMap(eventTypes);
+  }
+
+  /**
+   * @return time spent per listener class, in milliseconds
+   */
+  public Map<Class<?>, MetricsHistogram> getListeners() {
+    return Collections.unmodifiableMap(listeners);
+  }
+
+  /** Discards all collected metrics. */
+  public void reset() {
+    eventTypes.clear();
+    listeners.clear();
+  }
+
+  /**
+   * @return a readable report of all collected metrics
+   */
+  public String dump() {
+    StringBuilder report = new StringBuilder("Event types:\n");
+    eventTypes.forEach(
+        (type, metrics) ->
+            report.append("  ").append(type.getName()).append(" : ").append(metrics).append('\n'));
+    report.append("Listeners (ms):\n");
+    listeners.forEach(
+        (type, latency) ->
+            report.append("  ").append(type.getName()).append(" : ").append(latency).append('\n'));
+    return report.toString();
+  }
+
+  @Override
+  public String toString() {
+    return dump();
+  }
+}
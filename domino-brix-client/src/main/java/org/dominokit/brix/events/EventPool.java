@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool of reusable {@link PooledEvent} instances, fired with {@link
+ * BrixEvents#firePooled(PooledEvent)}.
+ *
+ * <pre>
+ * PointerMovedEvent event = pool.acquire().setPosition(x, y);
+ * events.firePooled(event);
+ * </pre>
+ *
+ * @param <E> pooled event type
+ */
+public final class EventPool<E extends PooledEvent<E>> {
+
+  private static final int DEFAULT_CAPACITY = 32;
+
+  private final Supplier<E> factory;
+  private final int capacity;
+  private final Deque<E> available = new ArrayDeque<>();
+  private final Consumer<E> recycler = this::recycle;
+
+  private EventPool(Supplier<E> factory, int capacity) {
+    this.factory = factory;
+    this.capacity = capacity;
+  }
+
+  /**
+   * @param factory creates new instances when the pool is empty
+   * @param <E> pooled event type
+   * @return new pool keeping up to 32 idle instances
+   */
+  public static <E extends PooledEvent<E>> EventPool<E> create(Supplier<E> factory) {
+    return create(factory, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @param factory creates new instances when the pool is empty
+   * @param capacity maximum number of idle instances kept by the pool
+   * @param <E> pooled event type
+   * @return new pool
+   */
+  public static <E extends PooledEvent<E>> EventPool<E> create(Supplier<E> factory, int capacity) {
+    return new EventPool<>(factory, capacity);
+  }
+
+  /**
+   * Takes an idle instance from the pool, or creates one when none is available. The instance gets
+   * a new timestamp and id.
+   *
+   * @return event instance to fill and fire
+   */
+  public E acquire() {
+    E event = available.poll();
+    if (isNull(event)) {
+      event = factory.get();
+    }
+    event.onAcquired(recycler);
+    return event;
+  }
+
+  /**
+   * @return number of idle instances in the pool
+   */
+  public int getAvailable() {
+    return available.size();
+  }
+
+  private void recycle(E event) {
+    if (available.size() < capacity) {
+      available.push(event);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/** Priority lane a listener is registered in on {@link BrixEvents}. */
+public enum EventPriority {
+  /** Notified before any other listener, for UI critical listeners. */
+  HIGH,
+  /** Notified after {@link #HIGH} listeners, the default lane. */
+  NORMAL,
+  /**
+   * Notified when the browser is idle after the event was fired, for background work such as
+   * analytics or caches.
+   */
+  LOW
+}
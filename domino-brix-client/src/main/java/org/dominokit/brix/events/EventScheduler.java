@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/**
+ * Schedules work for the event bus outside of the current call stack. Applications and tests can
+ * provide their own implementation to control when deferred events are delivered.
+ */
+public interface EventScheduler {
+  /**
+   * Runs the task once the current call stack completes.
+   *
+   * @param task work to run
+   */
+  void schedule(Runnable task);
+
+  /**
+   * Runs the task before the next frame is rendered. Defaults to {@link #schedule(Runnable)}.
+   *
+   * @param task work to run
+   */
+  default void scheduleFrame(Runnable task) {
+    schedule(task);
+  }
+
+  /**
+   * Runs the task when the browser is idle. Defaults to {@link #schedule(Runnable)}.
+   *
+   * @param task work to run
+   */
+  default void scheduleIdle(Runnable task) {
+    schedule(task);
+  }
+
+  /**
+   * Runs the task after the given delay. Defaults to {@link #schedule(Runnable)}, ignoring the
+   * delay.
+   *
+   * @param task work to run
+   * @param delay delay in milliseconds
+   */
+  default void scheduleDelayed(Runnable task, double delay) {
+    schedule(task);
+  }
+
+  /**
+   * @return current time in milliseconds, used to measure and time-box event delivery
+   */
+  default double now() {
+    return System.currentTimeMillis();
+  }
+}
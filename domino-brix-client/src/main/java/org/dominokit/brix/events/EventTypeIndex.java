@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assigns compact integer ids to a fixed set of event types. Generated presenters use the ids to
+ * dispatch {@code @ListenFor} handlers with a single lookup and a switch instead of comparing the
+ * event class against every handled type.
+ *
+ * <p>An event matches the id of its own class and the ids of the indexed supertypes listed for its
+ * class in the {@link EventHierarchy}. The matching ids are cached per concrete event class.
+ */
+public final class EventTypeIndex {
+
+  private static final int[] NONE = new int[0];
+
+  private final Map<Class<?>, Integer> ids = new HashMap<>();
+  private final Map<Class<?>, int[]> matches = new HashMap<>();
+  private final Set<Class<?>> types;
+
+  /**
+   * Creates an index of event types where each type gets the id matching its position in the
+   * arguments.
+   *
+   * @param types indexed event types
+   * @return new index
+   */
+  public static EventTypeIndex of(Class<?>... types) {
+    Builder builder = builder();
+    for (Class<?> type : types) {
+      builder.type(type);
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return a builder for an index
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private EventTypeIndex(Set<Class<?>> types) {
+    int id = 0;
+    for (Class<?> type : types) {
+      ids.put(type, id++);
+    }
+    this.types = Collections.unmodifiableSet(types);
+  }
+
+  /**
+   * @param event dispatched event
+   * @return the ids of the indexed types the event matches, empty when none matches. The returned
+   *     array must not be modified
+   */
+  public int[] indexesOf(BrixEvent event) {
+    int[] indexes = matches.get(event.getType());
+    if (isNull(indexes)) {
+      indexes = resolve(event);
+      matches.put(event.getType(), indexes);
+    }
+    return indexes;
+  }
+
+  private int[] resolve(BrixEvent event) {
+    Class<?>[] eventTypes = EventHierarchy.typesOf(event);
+    int[] resolved = new int[eventTypes.length];
+    int count = 0;
+    for (Class<?> eventType : eventTypes) {
+      Integer id = ids.get(eventType);
+      if (nonNull(id)) {
+        resolved[count++] = id;
+      }
+    }
+    if (count == 0) {
+      return NONE;
+    }
+    int[] indexes = new int[count];
+    System.arraycopy(resolved, 0, indexes, 0, count);
+    return indexes;
+  }
+
+  /**
+   * @return the indexed event types
+   */
+  public Set<Class<?>> getTypes() {
+    return types;
+  }
+
+  /** Builds an {@link EventTypeIndex}, ids are assigned in the order types are added. */
+  public static final class Builder {
+    private final Set<Class<?>> types = new LinkedHashSet<>();
+
+    private Builder() {}
+
+    /**
+     * Adds an event type, events of this class and events whose class lists it as a supertype in
+     * the {@link EventHierarchy} match it.
+     *
+     * @param type event class, abstract event class or interface
+     * @return same builder instance
+     */
+    public Builder type(Class<?> type) {
+      types.add(type);
+      return this;
+    }
+
+    /**
+     * @return the event type index
+     */
+    public EventTypeIndex build() {
+      return new EventTypeIndex(new LinkedHashSet<>(types));
+    }
+  }
+}
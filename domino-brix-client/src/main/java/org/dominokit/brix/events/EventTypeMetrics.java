@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/** Metrics of a single event type collected by {@link EventMetrics}. */
+public final class EventTypeMetrics {
+
+  private final MetricsHistogram fanOut = MetricsHistogram.counts();
+  private long fires;
+
+  EventTypeMetrics() {}
+
+  void onFired(int listeners) {
+    fires++;
+    fanOut.record(listeners);
+  }
+
+  /**
+   * @return number of times events of this type were fired
+   */
+  public long getFires() {
+    return fires;
+  }
+
+  /**
+   * @return distribution of the number of listeners notified per fire
+   */
+  public MetricsHistogram getFanOut() {
+    return fanOut;
+  }
+
+  @Override
+  public String toString() {
+    return "fires=" + fires + ", fanOut=[" + fanOut + "]";
+  }
+}
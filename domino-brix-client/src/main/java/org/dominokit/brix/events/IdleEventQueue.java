@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.BiConsumer;
+
+/**
+ * Holds events waiting for the {@link EventPriority#LOW low priority} listeners and delivers them
+ * in short slices when the browser is idle.
+ */
+class IdleEventQueue {
+
+  private static final double SLICE_BUDGET = 5;
+  private static final Object NO_SOURCE = new Object();
+
+  private final BiConsumer<Object, BrixEvent> delivery;
+  // source and event pairs, the deque does not accept null sources.
+  private final Deque<Object> pending = new ArrayDeque<>();
+  private EventScheduler scheduler;
+  private boolean scheduled = false;
+
+  IdleEventQueue(EventScheduler scheduler, BiConsumer<Object, BrixEvent> delivery) {
+    this.scheduler = scheduler;
+    this.delivery = delivery;
+  }
+
+  void setScheduler(EventScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  void add(Object source, BrixEvent event) {
+    pending.add(isNull(source) ? NO_SOURCE : source);
+    pending.add(event);
+    scheduleDrain();
+  }
+
+  void flush() {
+    while (!pending.isEmpty()) {
+      deliverNext();
+    }
+  }
+
+  void clear() {
+    pending.clear();
+  }
+
+  private void deliverNext() {
+    Object source = pending.poll();
+    BrixEvent event = (BrixEvent) pending.poll();
+    delivery.accept(source == NO_SOURCE ? null : source, event);
+  }
+
+  private void scheduleDrain() {
+    if (!scheduled && !pending.isEmpty()) {
+      scheduled = true;
+      scheduler.scheduleIdle(this::drain);
+    }
+  }
+
+  private void drain() {
+    scheduled = false;
+    if (pending.isEmpty()) {
+      return;
+    }
+    double start = scheduler.now();
+    try {
+      do {
+        deliverNext();
+      } while (!pending.isEmpty() && scheduler.now() - start < SLICE_BUDGET);
+    } finally {
+      scheduleDrain();
+    }
+  }
+}
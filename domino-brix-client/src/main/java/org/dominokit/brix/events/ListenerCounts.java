@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Number of listeners subscribed to each event type on a bus and its descendant buses, kept up to
+ * date as listeners register and unregister so that a type can be checked without walking the
+ * buses.
+ */
+final class ListenerCounts {
+
+  private final Map<Class<?>, Integer> typed = new HashMap<>();
+  private int wildcard = 0;
+
+  void add(Set<Class<?>> eventTypes, int delta) {
+    if (isNull(eventTypes)) {
+      wildcard += delta;
+    } else {
+      eventTypes.forEach(type -> add(type, delta));
+    }
+  }
+
+  void subtract(ListenerCounts counts) {
+    wildcard -= counts.wildcard;
+    counts.typed.forEach((type, count) -> add(type, -count));
+  }
+
+  boolean hasListeners(Class<?> type) {
+    if (wildcard > 0) {
+      return true;
+    }
+    for (Class<?> matching : EventHierarchy.typesOf(type)) {
+      if (typed.containsKey(matching)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  void clear() {
+    typed.clear();
+    wildcard = 0;
+  }
+
+  private void add(Class<?> type, int delta) {
+    int count = typed.getOrDefault(type, 0) + delta;
+    if (count > 0) {
+      typed.put(type, count);
+    } else {
+      typed.remove(type);
+    }
+  }
+}
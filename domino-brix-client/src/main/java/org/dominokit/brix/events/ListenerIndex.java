@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Listeners of a bus indexed by subscribed event type. Listeners without declared types are kept
+ * apart and receive every event, the typed listeners matching a concrete event class are resolved
+ * once and cached until a typed listener is added or removed.
+ */
+final class ListenerIndex {
+
+  private final ListenerLanes listeners = new ListenerLanes();
+  private final Map<Class<?>, ListenerLanes> typedListeners = new HashMap<>();
+  private final Map<Class<?>, ListenerLanes> resolvedListeners = new HashMap<>();
+  private final Map<EventListener, Set<Class<?>>> subscriptions = new HashMap<>();
+
+  void add(EventListener listener, Set<Class<?>> eventTypes, EventPriority priority) {
+    if (isNull(eventTypes)) {
+      subscriptions.put(listener, null);
+      listeners.add(listener, priority);
+    } else {
+      Set<Class<?>> types = new HashSet<>(eventTypes);
+      subscriptions.put(listener, types);
+      resolvedListeners.clear();
+      types.forEach(
+          type ->
+              typedListeners
+                  .computeIfAbsent(type, key -> new ListenerLanes())
+                  .add(listener, priority));
+    }
+  }
+
+  void remove(EventListener listener) {
+    listeners.remove(listener);
+    Set<Class<?>> types = subscriptions.remove(listener);
+    if (nonNull(types)) {
+      resolvedListeners.clear();
+      types.forEach(
+          type -> {
+            ListenerLanes typeListeners = typedListeners.get(type);
+            if (nonNull(typeListeners)) {
+              typeListeners.remove(listener);
+              if (typeListeners.isEmpty()) {
+                typedListeners.remove(type);
+              }
+            }
+          });
+    }
+  }
+
+  boolean contains(EventListener listener) {
+    return subscriptions.containsKey(listener);
+  }
+
+  Set<Class<?>> typesOf(EventListener listener) {
+    return subscriptions.get(listener);
+  }
+
+  boolean isEmpty() {
+    return subscriptions.isEmpty();
+  }
+
+  void clear() {
+    listeners.clear();
+    typedListeners.clear();
+    resolvedListeners.clear();
+    subscriptions.clear();
+  }
+
+  CopyOnWriteListeners<EventListener> typed(BrixEvent event, EventPriority priority) {
+    ListenerLanes typeListeners = resolvedListeners.get(event.getType());
+    if (isNull(typeListeners)) {
+      typeListeners = new ListenerLanes();
+      for (Class<?> type : EventHierarchy.typesOf(event)) {
+        ListenerLanes lanes = typedListeners.get(type);
+        if (nonNull(lanes)) {
+          typeListeners.addAll(lanes);
+        }
+      }
+      resolvedListeners.put(event.getType(), typeListeners);
+    }
+    return typeListeners.get(priority);
+  }
+
+  CopyOnWriteListeners<EventListener> wildcard(EventPriority priority) {
+    return listeners.get(priority);
+  }
+
+  boolean hasListeners(BrixEvent event, EventPriority priority) {
+    return !typed(event, priority).isEmpty() || !wildcard(priority).isEmpty();
+  }
+
+  int size(BrixEvent event) {
+    int size = 0;
+    for (EventPriority priority : EventPriority.values()) {
+      size += typed(event, priority).size() + wildcard(priority).size();
+    }
+    return size;
+  }
+}
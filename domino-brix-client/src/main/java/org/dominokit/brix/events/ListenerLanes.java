@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/** Listeners of a bus split into {@link EventPriority} lanes. */
+final class ListenerLanes {
+
+  private final CopyOnWriteListeners<EventListener> high = new CopyOnWriteListeners<>();
+  private final CopyOnWriteListeners<EventListener> normal = new CopyOnWriteListeners<>();
+  private final CopyOnWriteListeners<EventListener> low = new CopyOnWriteListeners<>();
+
+  CopyOnWriteListeners<EventListener> get(EventPriority priority) {
+    switch (priority) {
+      case HIGH:
+        return high;
+      case LOW:
+        return low;
+      case NORMAL:
+      default:
+        return normal;
+    }
+  }
+
+  void add(EventListener listener, EventPriority priority) {
+    get(priority).add(listener);
+  }
+
+  void addAll(ListenerLanes lanes) {
+    lanes.high.forEach(high::add);
+    lanes.normal.forEach(normal::add);
+    lanes.low.forEach(low::add);
+  }
+
+  void remove(EventListener listener) {
+    high.remove(listener);
+    normal.remove(listener);
+    low.remove(listener);
+  }
+
+  void clear() {
+    high.clear();
+    normal.clear();
+    low.clear();
+  }
+
+  boolean isEmpty() {
+    return high.isEmpty() && normal.isEmpty() && low.isEmpty();
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/**
+ * Fixed-bucket histogram, recording a value costs a short scan of the bucket bounds and no
+ * allocation. Percentiles are approximated by the upper bound of the bucket they fall in.
+ */
+public final class MetricsHistogram {
+
+  private static final double[] LATENCY_BOUNDS = {
+    0.01, 0.05, 0.1, 0.25, 0.5, 1, 2, 4, 8, 16, 32, 64, 128
+  };
+  private static final double[] COUNT_BOUNDS = {0, 1, 2, 4, 8, 16, 32, 64, 128, 256};
+
+  private final double[] bounds;
+  private final long[] counts;
+  private long count;
+  private double sum;
+  private double max;
+
+  private MetricsHistogram(double[] bounds) {
+    this.bounds = bounds;
+    this.counts = new long[bounds.length + 1];
+  }
+
+  static MetricsHistogram latency() {
+    return new MetricsHistogram(LATENCY_BOUNDS);
+  }
+
+  static MetricsHistogram counts() {
+    return new MetricsHistogram(COUNT_BOUNDS);
+  }
+
+  void record(double value) {
+    int bucket = 0;
+    while (bucket < bounds.length && value > bounds[bucket]) {
+      bucket++;
+    }
+    counts[bucket]++;
+    count++;
+    sum += value;
+    max = Math.max(max, value);
+  }
+
+  /**
+   * @return number of recorded values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * @return sum of the recorded values
+   */
+  public double getSum() {
+    return sum;
+  }
+
+  /**
+   * @return average of the recorded values, 0 when nothing was recorded
+   */
+  public double getMean() {
+    return count == 0 ? 0 : sum / count;
+  }
+
+  /**
+   * @return highest recorded value
+   */
+  public double getMax() {
+    return max;
+  }
+
+  /**
+   * Approximates a percentile of the recorded values.
+   *
+   * @param percentile percentile between 0 and 100
+   * @return upper bound of the bucket holding the percentile, or the max for the last bucket
+   */
+  public double getPercentile(double percentile) {
+    long target = (long) Math.ceil(count * percentile / 100);
+    long seen = 0;
+    for (int i = 0; i < bounds.length; i++) {
+      seen += counts[i];
+      if (seen >= target && seen > 0) {
+        return Math.min(bounds[i], max);
+      }
+    }
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return "count="
+        + count
+        + ", mean="
+        + getMean()
+        + ", p50="
+        + getPercentile(50)
+        + ", p95="
+        + getPercentile(95)
+        + ", max="
+        + max;
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/** Decides what happens when an event is fired asynchronously while the async backlog is full. */
+public enum OverflowPolicy {
+  /** Drops the oldest pending event to make room for the new one. */
+  DROP_OLDEST,
+  /**
+   * Merges the new event into a pending event of the same type and key using the type {@link
+   * CoalescePolicy}, drops the oldest pending event when there is nothing to merge with.
+   */
+  COALESCE,
+  /** Drains the backlog and delivers the new event synchronously in the caller stack. */
+  BLOCK_SYNC
+}
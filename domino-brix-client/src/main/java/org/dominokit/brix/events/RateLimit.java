@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/**
+ * Limits how often events of a type are delivered. A throttled type is delivered at most once per
+ * interval, a debounced type is delivered once no event of the type was fired for the delay. Events
+ * of a {@link KeyedEvent} type are limited per key.
+ *
+ * @see BrixEvents#setRateLimit(Class, RateLimit)
+ * @see RateLimits
+ */
+public final class RateLimit {
+
+  private final boolean debounce;
+  private final double interval;
+  private final RateLimitEdge edge;
+
+  private RateLimit(boolean debounce, double interval, RateLimitEdge edge) {
+    this.debounce = debounce;
+    this.interval = interval;
+    this.edge = edge;
+  }
+
+  /**
+   * @param interval minimum time between delivered events in milliseconds
+   * @return throttle delivering on both edges of the interval
+   */
+  public static RateLimit throttle(double interval) {
+    return throttle(interval, RateLimitEdge.BOTH);
+  }
+
+  /**
+   * @param interval minimum time between delivered events in milliseconds
+   * @param edge edges of the interval at which events are delivered
+   * @return throttle rate limit
+   */
+  public static RateLimit throttle(double interval, RateLimitEdge edge) {
+    return new RateLimit(false, interval, edge);
+  }
+
+  /**
+   * @param delay quiet time in milliseconds after which the latest event is delivered
+   * @return debounce delivering on the trailing edge
+   */
+  public static RateLimit debounce(double delay) {
+    return debounce(delay, RateLimitEdge.TRAILING);
+  }
+
+  /**
+   * @param delay quiet time in milliseconds that ends a burst of events
+   * @param edge edges of the burst at which events are delivered
+   * @return debounce rate limit
+   */
+  public static RateLimit debounce(double delay, RateLimitEdge edge) {
+    return new RateLimit(true, delay, edge);
+  }
+
+  /**
+   * @return true for a debounce, false for a throttle
+   */
+  public boolean isDebounce() {
+    return debounce;
+  }
+
+  /**
+   * @return throttle interval or debounce delay in milliseconds
+   */
+  public double getInterval() {
+    return interval;
+  }
+
+  /**
+   * @return edges at which events are delivered
+   */
+  public RateLimitEdge getEdge() {
+    return edge;
+  }
+}
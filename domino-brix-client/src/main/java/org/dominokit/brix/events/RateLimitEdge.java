@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/** Edges of a {@link RateLimit} window at which an event is delivered. */
+public enum RateLimitEdge {
+  /** Delivers the first event of a window immediately. */
+  LEADING(true, false),
+  /** Delivers the latest event of a window when the window ends. */
+  TRAILING(false, true),
+  /** Delivers the first event immediately and the latest one when the window ends. */
+  BOTH(true, true);
+
+  private final boolean leading;
+  private final boolean trailing;
+
+  RateLimitEdge(boolean leading, boolean trailing) {
+    this.leading = leading;
+    this.trailing = trailing;
+  }
+
+  boolean isLeading() {
+    return leading;
+  }
+
+  boolean isTrailing() {
+    return trailing;
+  }
+}
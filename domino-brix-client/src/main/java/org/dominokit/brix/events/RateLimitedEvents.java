@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Applies {@link RateLimit rate limits} to fired events. Each event type and key that is being
+ * limited has an open window, events fired while the window is open are dropped or held for the
+ * trailing edge.
+ */
+class RateLimitedEvents {
+
+  private final BiConsumer<Object, BrixEvent> delivery;
+  private final Map<CoalesceKey, Window> windows = new HashMap<>();
+  private EventScheduler scheduler;
+
+  RateLimitedEvents(EventScheduler scheduler, BiConsumer<Object, BrixEvent> delivery) {
+    this.scheduler = scheduler;
+    this.delivery = delivery;
+  }
+
+  void setScheduler(EventScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  void offer(RateLimit limit, Object source, BrixEvent event) {
+    CoalesceKey key = new CoalesceKey(event);
+    Window window = windows.get(key);
+    if (nonNull(window)) {
+      window.lastFired = scheduler.now();
+      if (window.limit.getEdge().isTrailing()) {
+        window.hold(source, event);
+      }
+      return;
+    }
+    window = new Window(key, limit, scheduler.now());
+    windows.put(key, window);
+    scheduleClose(window, limit.getInterval());
+    if (limit.getEdge().isLeading()) {
+      delivery.accept(source, event);
+    } else {
+      window.hold(source, event);
+    }
+  }
+
+  void clear() {
+    windows.clear();
+  }
+
+  private void scheduleClose(Window window, double delay) {
+    scheduler.scheduleDelayed(() -> close(window), delay);
+  }
+
+  private void close(Window window) {
+    if (windows.get(window.key) != window) {
+      return;
+    }
+    RateLimit limit = window.limit;
+    if (limit.isDebounce()) {
+      double quiet = scheduler.now() - window.lastFired;
+      if (quiet < limit.getInterval()) {
+        scheduleClose(window, limit.getInterval() - quiet);
+        return;
+      }
+      windows.remove(window.key);
+      window.deliverHeld();
+    } else if (isNull(window.event)) {
+      windows.remove(window.key);
+    } else {
+      // a trailing delivery opens the next throttle window.
+      scheduleClose(window, limit.getInterval());
+      window.deliverHeld();
+    }
+  }
+
+  private final class Window {
+    private final CoalesceKey key;
+    private final RateLimit limit;
+    private double lastFired;
+    private Object source;
+    private BrixEvent event;
+
+    private Window(CoalesceKey key, RateLimit limit, double lastFired) {
+      this.key = key;
+      this.limit = limit;
+      this.lastFired = lastFired;
+    }
+
+    private void hold(Object source, BrixEvent event) {
+      this.source = source;
+      this.event = event;
+    }
+
+    private void deliverHeld() {
+      if (nonNull(event)) {
+        Object heldSource = source;
+        BrixEvent heldEvent = event;
+        hold(null, null);
+        delivery.accept(heldSource, heldEvent);
+      }
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Default {@link RateLimit} per event type applied by every bus. The limits declared with
+ * {@code @Throttle} or {@code @Debounce} are registered by the initializer generated with the event
+ * type when the application starts, a bus can override them with {@link
+ * BrixEvents#setRateLimit(Class, RateLimit)}.
+ */
+public final class RateLimits {
+
+  private static final Map<Class<?>, RateLimit> limits = new HashMap<>();
+
+  private RateLimits() {}
+
+  /**
+   * Registers the default rate limit of an event type, replacing a previously registered one.
+   *
+   * @param type event type
+   * @param limit rate limit, {@code null} removes the default
+   */
+  public static void register(Class<? extends BrixEvent> type, RateLimit limit) {
+    if (isNull(limit)) {
+      limits.remove(type);
+    } else {
+      limits.put(type, limit);
+    }
+  }
+
+  static RateLimit get(Class<?> type) {
+    return limits.isEmpty() ? null : limits.get(type);
+  }
+}
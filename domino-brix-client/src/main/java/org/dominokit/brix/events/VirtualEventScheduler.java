@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import java.util.PriorityQueue;
+
+/**
+ * {@link EventScheduler} running on virtual time, tasks only run when the time is {@link
+ * #advance(double) advanced}. Use it in tests of deferred, async, idle and rate limited events.
+ * Frame tasks are due one {@link #FRAME_INTERVAL frame} after they are scheduled.
+ */
+public class VirtualEventScheduler implements EventScheduler {
+
+  /** Virtual duration of a frame in milliseconds. */
+  public static final double FRAME_INTERVAL = 16;
+
+  private final PriorityQueue<Task> tasks = new PriorityQueue<>();
+  private double time = 0;
+  private long sequence = 0;
+
+  @Override
+  public void schedule(Runnable task) {
+    add(task, 0);
+  }
+
+  @Override
+  public void scheduleFrame(Runnable task) {
+    add(task, FRAME_INTERVAL);
+  }
+
+  @Override
+  public void scheduleIdle(Runnable task) {
+    add(task, 0);
+  }
+
+  @Override
+  public void scheduleDelayed(Runnable task, double delay) {
+    add(task, Math.max(0, delay));
+  }
+
+  @Override
+  public double now() {
+    return time;
+  }
+
+  /**
+   * Moves the virtual time forward, running every task that becomes due in order, including tasks
+   * scheduled by the running tasks.
+   *
+   * @param millis time to advance in milliseconds
+   */
+  public void advance(double millis) {
+    double target = time + millis;
+    while (!tasks.isEmpty() && tasks.peek().due <= target) {
+      Task task = tasks.poll();
+      time = Math.max(time, task.due);
+      task.runnable.run();
+    }
+    time = target;
+  }
+
+  /** Runs the tasks that are due without moving the virtual time. */
+  public void runPending() {
+    advance(0);
+  }
+
+  /**
+   * @return number of scheduled tasks that did not run yet
+   */
+  public int getPendingCount() {
+    return tasks.size();
+  }
+
+  private void add(Runnable runnable, double delay) {
+    tasks.add(new Task(runnable, time + delay, sequence++));
+  }
+
+  private static final class Task implements Comparable<Task> {
+    private final Runnable runnable;
+    private final double due;
+    private final long order;
+
+    private Task(Runnable runnable, double due, long order) {
+      this.runnable = runnable;
+      this.due = due;
+      this.order = order;
+    }
+
+    @Override
+    public int compareTo(Task other) {
+      int byDue = Double.compare(due, other.due);
+      return byDue != 0 ? byDue : Long.compare(order, other.order);
+    }
+  }
+}
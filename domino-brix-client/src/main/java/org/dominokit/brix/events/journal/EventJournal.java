@@ -0,0 +1,273 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.journal;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.EventCodec;
+import org.dominokit.brix.events.EventCodecException;
+import org.dominokit.brix.events.EventListener;
+import org.dominokit.brix.events.EventScheduler;
+import org.dominokit.brix.events.Frames;
+import org.dominokit.brix.events.PooledEvent;
+import org.dominokit.brix.events.RegistrationRecord;
+import org.dominokit.domino.history.AppHistory;
+import org.dominokit.domino.history.DominoHistory;
+
+/**
+ * Bounded ring-buffer journal of the events fired on a {@link BrixEvents} bus, including the events
+ * fired on its descendant buses, and of the navigations of an {@link AppHistory}. Once the journal
+ * is full the oldest entries are overwritten. Entries can be {@link #export() exported}, {@link
+ * #parse(String) parsed} back and re-fired with a {@link ReplayDriver} to reproduce a session.
+ *
+ * <p>Events of types registered with an {@link EventCodec} are recorded with their encoded payload
+ * and can be replayed in another session, other events can only be replayed in the session that
+ * recorded them.
+ */
+public class EventJournal implements EventListener {
+
+  private static final int DEFAULT_CAPACITY = 1000;
+  private static final String NO_PAYLOAD = "0";
+  private static final String WITH_PAYLOAD = "1";
+
+  private final BrixEvents events;
+  private final AppHistory history;
+  private final EventScheduler clock;
+  private final JournalEntry[] entries;
+  private final Map<Class<?>, NamedCodec<?>> codecs = new HashMap<>();
+  private final DominoHistory.StateListener historyListener = this::onNavigation;
+  private Function<BrixEvent, String> summarizer = String::valueOf;
+  private RegistrationRecord eventsRecord;
+  private int next = 0;
+  private int size = 0;
+
+  /**
+   * Creates a journal timestamping entries with the scheduler of the recorded bus.
+   *
+   * @param events bus to record
+   * @param history history to record navigations from, {@code null} to record events only
+   */
+  public EventJournal(BrixEvents events, AppHistory history) {
+    this(events, history, DEFAULT_CAPACITY, events.getScheduler());
+  }
+
+  /**
+   * @param events bus to record
+   * @param history history to record navigations from, {@code null} to record events only
+   * @param capacity maximum number of kept entries
+   * @param clock clock used to timestamp entries
+   */
+  public EventJournal(BrixEvents events, AppHistory history, int capacity, EventScheduler clock) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Journal capacity must be at least 1.");
+    }
+    this.events = events;
+    this.history = history;
+    this.entries = new JournalEntry[capacity];
+    this.clock = clock;
+  }
+
+  /**
+   * Records events of the given type with their encoded payload so they can be replayed in another
+   * session.
+   *
+   * @param type event type
+   * @param name name identifying the type in the journal
+   * @param codec converts the events to and from strings
+   * @param <E> event type
+   * @return same journal instance
+   */
+  public <E extends BrixEvent> EventJournal codec(Class<E> type, String name, EventCodec<E> codec) {
+    codecs.put(type, new NamedCodec<>(name, codec));
+    return this;
+  }
+
+  /**
+   * Sets how event payloads are summarized, defaults to {@link String#valueOf(Object)}.
+   *
+   * @param summarizer creates the summary of an event
+   * @return same journal instance
+   */
+  public EventJournal setSummarizer(Function<BrixEvent, String> summarizer) {
+    this.summarizer = summarizer;
+    return this;
+  }
+
+  /**
+   * Starts recording, has no effect when already started.
+   *
+   * @return same journal instance
+   */
+  public EventJournal start() {
+    if (!isStarted()) {
+      eventsRecord = events.tap(this);
+      if (nonNull(history)) {
+        history.listen(historyListener);
+      }
+    }
+    return this;
+  }
+
+  /** Stops recording, the recorded entries are kept. */
+  public void stop() {
+    if (isStarted()) {
+      eventsRecord.remove();
+      eventsRecord = null;
+      if (nonNull(history)) {
+        history.removeListener(historyListener);
+      }
+    }
+  }
+
+  /**
+   * @return true if the journal is recording
+   */
+  public boolean isStarted() {
+    return nonNull(eventsRecord);
+  }
+
+  /** Removes all recorded entries. */
+  public void clear() {
+    for (int i = 0; i < entries.length; i++) {
+      entries[i] = null;
+    }
+    next = 0;
+    size = 0;
+  }
+
+  /**
+   * @return recorded entries, oldest first
+   */
+  public List<JournalEntry> getEntries() {
+    List<JournalEntry> result = new ArrayList<>(size);
+    int first = (next - size + entries.length) % entries.length;
+    for (int i = 0; i < size; i++) {
+      result.add(entries[(first + i) % entries.length]);
+    }
+    return result;
+  }
+
+  /**
+   * Creates a driver that replays the recorded entries on the given bus and history, the driver
+   * knows the codecs registered on this journal.
+   *
+   * @param target bus to fire the recorded events on
+   * @param targetHistory history to replay navigations on, {@code null} to skip them
+   * @return replay driver
+   */
+  public ReplayDriver replay(BrixEvents target, AppHistory targetHistory) {
+    ReplayDriver driver = new ReplayDriver(getEntries(), target, targetHistory);
+    codecs.values().forEach(codec -> codec.addTo(driver));
+    return driver;
+  }
+
+  /**
+   * @return the recorded entries as a string that can be {@link #parse(String) parsed} back, the
+   *     recorded event instances are not included
+   */
+  public String export() {
+    StringBuilder message = new StringBuilder();
+    for (JournalEntry entry : getEntries()) {
+      Frames.append(message, entry.getKind().name());
+      Frames.append(message, String.valueOf(entry.getTime()));
+      Frames.append(message, entry.getType());
+      Frames.append(message, entry.getSummary());
+      Frames.append(message, entry.getPayload().isPresent() ? WITH_PAYLOAD : NO_PAYLOAD);
+      Frames.append(message, entry.getPayload().orElse(""));
+    }
+    return message.toString();
+  }
+
+  /**
+   * @param exported journal created with {@link #export()}
+   * @return the exported entries, oldest first
+   * @throws EventCodecException if the exported journal is malformed
+   */
+  public static List<JournalEntry> parse(String exported) {
+    List<String> frames = Frames.read(exported);
+    if (frames.size() % 6 != 0) {
+      throw new EventCodecException("Truncated journal of [" + frames.size() + "] frames.");
+    }
+    List<JournalEntry> result = new ArrayList<>();
+    for (int i = 0; i < frames.size(); i += 6) {
+      try {
+        result.add(
+            new JournalEntry(
+                JournalEntry.Kind.valueOf(frames.get(i)),
+                Double.parseDouble(frames.get(i + 1)),
+                frames.get(i + 2),
+                frames.get(i + 3),
+                WITH_PAYLOAD.equals(frames.get(i + 4)) ? frames.get(i + 5) : null,
+                null));
+      } catch (IllegalArgumentException e) {
+        throw new EventCodecException("Malformed journal entry [" + i / 6 + "].", e);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void onEventReceived(BrixEvent event) {
+    BrixEvent recorded = event instanceof PooledEvent ? ((PooledEvent<?>) event).retain() : event;
+    NamedCodec<?> codec = codecs.get(event.getType());
+    add(
+        new JournalEntry(
+            JournalEntry.Kind.EVENT,
+            clock.now(),
+            isNull(codec) ? event.getType().getName() : codec.name,
+            summarizer.apply(event),
+            isNull(codec) ? null : codec.encode(event),
+            recorded));
+  }
+
+  private void onNavigation(DominoHistory.State state) {
+    String token = state.token().value();
+    add(new JournalEntry(JournalEntry.Kind.NAVIGATION, clock.now(), token, token, token, null));
+  }
+
+  private void add(JournalEntry entry) {
+    entries[next] = entry;
+    next = (next + 1) % entries.length;
+    size = Math.min(size + 1, entries.length);
+  }
+
+  private static final class NamedCodec<E extends BrixEvent> {
+    private final String name;
+    private final EventCodec<E> codec;
+
+    private NamedCodec(String name, EventCodec<E> codec) {
+      this.name = name;
+      this.codec = codec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String encode(BrixEvent event) {
+      return codec.encode((E) event);
+    }
+
+    private void addTo(ReplayDriver driver) {
+      driver.codec(name, codec);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.journal;
+
+import java.util.Optional;
+import org.dominokit.brix.events.BrixEvent;
+
+/** A fired event or a navigation recorded by the {@link EventJournal}. */
+public final class JournalEntry {
+
+  /** Kind of recorded entry. */
+  public enum Kind {
+    /** An event fired on the bus. */
+    EVENT,
+    /** A navigation to a history token. */
+    NAVIGATION
+  }
+
+  private final Kind kind;
+  private final double time;
+  private final String type;
+  private final String summary;
+  private final String payload;
+  private final BrixEvent event;
+
+  JournalEntry(
+      Kind kind, double time, String type, String summary, String payload, BrixEvent event) {
+    this.kind = kind;
+    this.time = time;
+    this.type = type;
+    this.summary = summary;
+    this.payload = payload;
+    this.event = event;
+  }
+
+  /**
+   * @return kind of entry
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return time the entry was recorded, in milliseconds of the journal clock
+   */
+  public double getTime() {
+    return time;
+  }
+
+  /**
+   * @return codec name or class name of the event, or the token for a navigation
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return readable summary of the event payload
+   */
+  public String getSummary() {
+    return summary;
+  }
+
+  /**
+   * @return the event encoded with its codec, or the navigation token, empty when the event type
+   *     has no codec
+   */
+  public Optional<String> getPayload() {
+    return Optional.ofNullable(payload);
+  }
+
+  /**
+   * @return the recorded event instance, only available in the session that recorded it
+   */
+  public Optional<BrixEvent> getEvent() {
+    return Optional.ofNullable(event);
+  }
+
+  @Override
+  public String toString() {
+    return time + " " + kind + " " + type + " " + summary;
+  }
+}
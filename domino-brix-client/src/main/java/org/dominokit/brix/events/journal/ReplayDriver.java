@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.journal;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.EventCodec;
+import org.dominokit.brix.events.EventScheduler;
+import org.dominokit.domino.history.AppHistory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Re-fires recorded {@link JournalEntry journal entries} against a bus and history, typically of a
+ * headless runtime, to profile a recorded session.
+ */
+public class ReplayDriver {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReplayDriver.class);
+
+  private final List<JournalEntry> entries;
+  private final BrixEvents events;
+  private final AppHistory history;
+  private final Map<String, EventCodec<?>> codecs = new HashMap<>();
+  private EventScheduler scheduler;
+  private int position = 0;
+  private int generation = 0;
+  private boolean running = false;
+
+  /**
+   * @param entries entries to replay, oldest first
+   * @param events bus to fire the recorded events on
+   * @param history history to replay navigations on, {@code null} to skip them
+   */
+  public ReplayDriver(List<JournalEntry> entries, BrixEvents events, AppHistory history) {
+    this.entries = entries;
+    this.events = events;
+    this.history = history;
+    this.scheduler = events.getScheduler();
+  }
+
+  /**
+   * Registers the codec used to decode the recorded events of the given name.
+   *
+   * @param name name the events were recorded with
+   * @param codec decodes the recorded payload
+   * @return same driver instance
+   */
+  public ReplayDriver codec(String name, EventCodec<?> codec) {
+    codecs.put(name, codec);
+    return this;
+  }
+
+  /**
+   * Sets the scheduler used to wait between entries at {@link ReplaySpeed#RECORDED} speed, by
+   * default the scheduler of the target bus.
+   *
+   * @param scheduler replay scheduler
+   * @return same driver instance
+   */
+  public ReplayDriver setScheduler(EventScheduler scheduler) {
+    this.scheduler = scheduler;
+    return this;
+  }
+
+  /**
+   * Replays the entries from the beginning.
+   *
+   * @param speed replay pace
+   * @param onComplete called once all entries were replayed
+   */
+  public void replay(ReplaySpeed speed, Runnable onComplete) {
+    position = 0;
+    running = true;
+    step(++generation, speed, onComplete);
+  }
+
+  /**
+   * Stops a running replay, the remaining entries are not fired. A step of the cancelled replay
+   * that is still scheduled is ignored, also when a new replay was started in the meantime.
+   */
+  public void cancel() {
+    running = false;
+    generation++;
+  }
+
+  /**
+   * @return true if a replay is in progress
+   */
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void step(int replay, ReplaySpeed speed, Runnable onComplete) {
+    if (replay != generation) {
+      return;
+    }
+    while (running && position < entries.size()) {
+      JournalEntry entry = entries.get(position++);
+      fire(entry);
+      if (ReplaySpeed.RECORDED == speed && position < entries.size()) {
+        double delay = entries.get(position).getTime() - entry.getTime();
+        if (delay > 0) {
+          scheduler.scheduleDelayed(() -> step(replay, speed, onComplete), delay);
+          return;
+        }
+      }
+    }
+    if (running) {
+      running = false;
+      onComplete.run();
+    }
+  }
+
+  private void fire(JournalEntry entry) {
+    if (JournalEntry.Kind.NAVIGATION == entry.getKind()) {
+      if (nonNull(history)) {
+        history.fireState(entry.getPayload().orElse(entry.getType()));
+      }
+      return;
+    }
+    BrixEvent event = entry.getEvent().orElseGet(() -> decode(entry));
+    if (isNull(event)) {
+      LOGGER.warn("Skipping recorded event [" + entry.getType() + "], no codec registered.");
+    } else {
+      events.fireEvent(event);
+    }
+  }
+
+  private BrixEvent decode(JournalEntry entry) {
+    EventCodec<?> codec = codecs.get(entry.getType());
+    if (isNull(codec) || !entry.getPayload().isPresent()) {
+      return null;
+    }
+    return codec.decode(entry.getPayload().get());
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.query;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.inject.Singleton;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.EventScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Request and response channel next to {@link BrixEvents}. Presenters {@link #ask(BrixQuery,
+ * QueryCallback) ask} typed queries and the single {@link QueryProvider} registered for the query
+ * type answers them.
+ *
+ * <p>Results are cached per query type and {@link BrixQuery#getQueryKey() key} for the {@link
+ * QueryRegistration#ttl(double) TTL} of the provider and delivered immediately while cached.
+ * Queries asked while a request for the same key is in flight wait for that request instead of
+ * starting another one. Cached results are dropped with {@link #invalidate(Class)} or when an
+ * {@link QueryRegistration#invalidateOn(Class) invalidating event} is fired. Failures are not
+ * cached.
+ */
+@Singleton
+public class BrixQueries {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BrixQueries.class);
+
+  private final BrixEvents events;
+  private final Map<Class<?>, QueryRegistration<?, ?>> registrations = new HashMap<>();
+  private final Map<QueryKey, QueryResult> results = new HashMap<>();
+  private EventScheduler scheduler;
+
+  /**
+   * Creates a query channel using the scheduler of the given bus as the clock of result TTLs.
+   *
+   * @param events bus the invalidating events are fired on
+   */
+  public BrixQueries(BrixEvents events) {
+    this(events, events.getScheduler());
+  }
+
+  /**
+   * @param events bus the invalidating events are fired on
+   * @param scheduler scheduler used as the clock of result TTLs
+   */
+  public BrixQueries(BrixEvents events, EventScheduler scheduler) {
+    this.events = events;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Registers the provider answering queries of the given type, replacing a previously registered
+   * provider.
+   *
+   * @param type query type
+   * @param provider answers the queries
+   * @param <Q> query type
+   * @param <R> result type
+   * @return registration used to configure caching and invalidation
+   */
+  public <Q extends BrixQuery<R>, R> QueryRegistration<Q, R> provide(
+      Class<Q> type, QueryProvider<Q, R> provider) {
+    QueryRegistration<?, ?> previous = registrations.get(type);
+    if (nonNull(previous)) {
+      previous.remove();
+    }
+    QueryRegistration<Q, R> registration = new QueryRegistration<>(this, events, type, provider);
+    registrations.put(type, registration);
+    return registration;
+  }
+
+  /**
+   * Asks a query, the result is delivered from the cache, from an in-flight request for the same
+   * key or from a new request to the provider.
+   *
+   * @param query the query
+   * @param callback receives the result or the failure
+   * @param <R> result type
+   */
+  public <R> void ask(BrixQuery<R> query, QueryCallback<R> callback) {
+    QueryRegistration<?, ?> registration = registrations.get(query.getClass());
+    if (isNull(registration)) {
+      callback.onFailure(
+          new IllegalStateException(
+              "No provider registered for query [" + query.getClass().getName() + "]."));
+      return;
+    }
+    QueryKey key = new QueryKey(query.getClass(), query.getQueryKey());
+    QueryResult result = results.get(key);
+    if (nonNull(result) && result.isExpired(scheduler.now())) {
+      results.remove(key);
+      result = null;
+    }
+    if (nonNull(result)) {
+      result.deliver(callback);
+      return;
+    }
+    QueryResult pending = new QueryResult(key, registration.getTtl());
+    results.put(key, pending);
+    pending.deliver(callback);
+    try {
+      registration.answer(query, pending);
+    } catch (RuntimeException e) {
+      pending.onFailure(e);
+    }
+  }
+
+  /**
+   * Asks a query, see {@link #ask(BrixQuery, QueryCallback)}.
+   *
+   * @param query the query
+   * @param onSuccess receives the result
+   * @param onFailure receives the failure
+   * @param <R> result type
+   */
+  public <R> void ask(
+      BrixQuery<R> query, Consumer<? super R> onSuccess, Consumer<Throwable> onFailure) {
+    ask(
+        query,
+        new QueryCallback<R>() {
+          @Override
+          public void onSuccess(R result) {
+            onSuccess.accept(result);
+          }
+
+          @Override
+          public void onFailure(Throwable error) {
+            onFailure.accept(error);
+          }
+        });
+  }
+
+  /**
+   * Drops the cached results of a query type, in-flight requests still answer their waiting queries
+   * but their results are not cached.
+   *
+   * @param type query type
+   */
+  public void invalidate(Class<?> type) {
+    results.keySet().removeIf(key -> key.getType().equals(type));
+  }
+
+  /**
+   * Drops the cached result of one query key.
+   *
+   * @param type query type
+   * @param queryKey the {@link BrixQuery#getQueryKey() query key}
+   */
+  public void invalidate(Class<?> type, Object queryKey) {
+    results.remove(new QueryKey(type, queryKey));
+  }
+
+  /** Drops every cached result. */
+  public void invalidateAll() {
+    results.clear();
+  }
+
+  /**
+   * Replaces the scheduler used as the clock of result TTLs.
+   *
+   * @param scheduler event scheduler
+   */
+  public void setScheduler(EventScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  void remove(QueryRegistration<?, ?> registration) {
+    if (registrations.get(registration.getType()) == registration) {
+      registrations.remove(registration.getType());
+      invalidate(registration.getType());
+    }
+  }
+
+  /** Result of a query key, waiting for the provider until it is resolved. */
+  private final class QueryResult implements QueryCallback<Object> {
+    private final QueryKey key;
+    private final double ttl;
+    private final List<QueryCallback<Object>> waiting = new ArrayList<>();
+    private boolean resolved = false;
+    private Object value;
+    private double expiresAt;
+
+    private QueryResult(QueryKey key, double ttl) {
+      this.key = key;
+      this.ttl = ttl;
+    }
+
+    private boolean isExpired(double now) {
+      return resolved && now >= expiresAt;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(QueryCallback<?> callback) {
+      if (resolved) {
+        ((QueryCallback<Object>) callback).onSuccess(value);
+      } else {
+        waiting.add((QueryCallback<Object>) callback);
+      }
+    }
+
+    @Override
+    public void onSuccess(Object result) {
+      if (!resolved && isCurrent()) {
+        if (ttl > 0) {
+          resolved = true;
+          value = result;
+          expiresAt = scheduler.now() + ttl;
+        } else {
+          results.remove(key);
+        }
+      }
+      complete(callback -> callback.onSuccess(result));
+    }
+
+    @Override
+    public void onFailure(Throwable error) {
+      if (isCurrent() && !resolved) {
+        results.remove(key);
+      }
+      complete(callback -> callback.onFailure(error));
+    }
+
+    private boolean isCurrent() {
+      return results.get(key) == this;
+    }
+
+    private void complete(Consumer<QueryCallback<Object>> notification) {
+      List<QueryCallback<Object>> callbacks = new ArrayList<>(waiting);
+      waiting.clear();
+      for (QueryCallback<Object> callback : callbacks) {
+        try {
+          notification.accept(callback);
+        } catch (RuntimeException e) {
+          LOGGER.error("Query callback failed for [" + key.getType().getName() + "].", e);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.query;
+
+/**
+ * A typed request answered by the {@link QueryProvider} registered for its class in {@link
+ * BrixQueries}.
+ *
+ * @param <R> result type
+ */
+public interface BrixQuery<R> {
+
+  /**
+   * Identifies the cached result of the query, queries of the same class with equal keys share one
+   * result and one in-flight request. Defaults to the query itself, so queries relying on the
+   * default must implement {@code equals} and {@code hashCode}.
+   *
+   * @return key of the query result
+   */
+  default Object getQueryKey() {
+    return this;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.query;
+
+import java.util.Objects;
+
+/** Identifies a cached query result by query type and query key. */
+final class QueryKey {
+  private final Class<?> type;
+  private final Object key;
+
+  QueryKey(Class<?> type, Object key) {
+    this.type = type;
+    this.key = key;
+  }
+
+  Class<?> getType() {
+    return type;
+  }
+
+  Object getKey() {
+    return key;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof QueryKey)) {
+      return false;
+    }
+    QueryKey that = (QueryKey) o;
+    return type.equals(that.type) && Objects.equals(key, that.key);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, key);
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.query;
+
+/**
+ * Answers the queries of one type, typically by calling the backend.
+ *
+ * @param <Q> query type
+ * @param <R> result type
+ */
+@FunctionalInterface
+public interface QueryProvider<Q extends BrixQuery<R>, R> {
+
+  /**
+   * Answers the query, synchronously or later, by calling the callback exactly once.
+   *
+   * @param query query to answer
+   * @param callback receives the result or the failure
+   */
+  void answer(Q query, QueryCallback<R> callback);
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.EventListener;
+import org.dominokit.brix.events.EventPriority;
+import org.dominokit.brix.events.RegistrationRecord;
+
+/**
+ * The provider of a query type registered in {@link BrixQueries}, configures how long its results
+ * are cached and which events invalidate them.
+ *
+ * @param <Q> query type
+ * @param <R> result type
+ */
+public final class QueryRegistration<Q extends BrixQuery<R>, R> implements RegistrationRecord {
+
+  private final BrixQueries queries;
+  private final BrixEvents events;
+  private final Class<Q> type;
+  private final QueryProvider<Q, R> provider;
+  private final List<RegistrationRecord> invalidations = new ArrayList<>();
+  private double ttl = Double.POSITIVE_INFINITY;
+
+  QueryRegistration(
+      BrixQueries queries, BrixEvents events, Class<Q> type, QueryProvider<Q, R> provider) {
+    this.queries = queries;
+    this.events = events;
+    this.type = type;
+    this.provider = provider;
+  }
+
+  /**
+   * Sets how long results are cached, results are cached until invalidated by default. A TTL of
+   * {@code 0} only shares the in-flight requests.
+   *
+   * @param ttl time to live of the results in milliseconds
+   * @return same registration instance
+   */
+  public QueryRegistration<Q, R> ttl(double ttl) {
+    this.ttl = ttl;
+    return this;
+  }
+
+  /**
+   * Invalidates every cached result of the query type when an event of the given type is fired.
+   *
+   * @param eventType invalidating event type
+   * @param <E> event type
+   * @return same registration instance
+   */
+  public <E extends BrixEvent> QueryRegistration<Q, R> invalidateOn(Class<E> eventType) {
+    invalidations.add(
+        events.register(
+            new InvalidationListener<>(eventType, event -> queries.invalidate(type)),
+            EventPriority.HIGH));
+    return this;
+  }
+
+  /**
+   * Invalidates the cached result of the query key extracted from events of the given type.
+   *
+   * @param eventType invalidating event type
+   * @param keyOf extracts the query key from the event
+   * @param <E> event type
+   * @return same registration instance
+   */
+  public <E extends BrixEvent> QueryRegistration<Q, R> invalidateOn(
+      Class<E> eventType, Function<? super E, ?> keyOf) {
+    invalidations.add(
+        events.register(
+            new InvalidationListener<E>(
+                eventType, event -> queries.invalidate(type, keyOf.apply(event))),
+            EventPriority.HIGH));
+    return this;
+  }
+
+  /** Removes the provider, its invalidation listeners and its cached results. */
+  @Override
+  public void remove() {
+    invalidations.forEach(RegistrationRecord::remove);
+    invalidations.clear();
+    queries.remove(this);
+  }
+
+  Class<Q> getType() {
+    return type;
+  }
+
+  double getTtl() {
+    return ttl;
+  }
+
+  @SuppressWarnings("unchecked")
+  void answer(BrixQuery<?> query, QueryCallback<?> callback) {
+    provider.answer((Q) query, (QueryCallback<R>) callback);
+  }
+
+  private static final class InvalidationListener<E extends BrixEvent> implements EventListener {
+    private final Set<Class<?>> eventTypes;
+    private final Consumer<E> invalidation;
+
+    private InvalidationListener(Class<E> eventType, Consumer<E> invalidation) {
+      this.eventTypes = Collections.singleton(eventType);
+      this.invalidation = invalidation;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onEventReceived(BrixEvent event) {
+      invalidation.accept((E) event);
+    }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+      return eventTypes;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.relay;
+
+import elemental2.dom.BroadcastChannel;
+import elemental2.dom.EventListener;
+import elemental2.dom.MessageEvent;
+import java.util.function.Consumer;
+import jsinterop.base.Js;
+import org.dominokit.brix.events.RegistrationRecord;
+
+/** {@link RelayTransport} backed by a {@code BroadcastChannel}. */
+public class BroadcastChannelTransport implements RelayTransport {
+
+  private final BroadcastChannel channel;
+
+  /**
+   * @param channelName name of the channel shared by the tabs
+   */
+  public BroadcastChannelTransport(String channelName) {
+    this.channel = new BroadcastChannel(channelName);
+  }
+
+  @Override
+  public void send(String message) {
+    channel.postMessage(message);
+  }
+
+  @Override
+  public RegistrationRecord listen(Consumer<String> receiver) {
+    EventListener listener =
+        evt -> receiver.accept(Js.asString(Js.<MessageEvent<Object>>uncheckedCast(evt).data));
+    channel.addEventListener("message", listener);
+    return () -> channel.removeEventListener("message", listener);
+  }
+
+  /** Closes the underlying channel. */
+  public void close() {
+    channel.close();
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.relay;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.EventCodec;
+import org.dominokit.brix.events.EventCodecException;
+import org.dominokit.brix.events.EventListener;
+import org.dominokit.brix.events.EventPriority;
+import org.dominokit.brix.events.EventScheduler;
+import org.dominokit.brix.events.Frames;
+import org.dominokit.brix.events.RegistrationRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Relays selected event types between browser tabs. Events of a relayed type fired on the bus are
+ * encoded with their {@link EventCodec}, batched per scheduler tick and sent through the {@link
+ * RelayTransport}, events received from other tabs are decoded and fired on the local bus without
+ * being sent back. Received events were rate limited in the tab that fired them, they are delivered
+ * immediately instead of being limited a second time, which would also deliver trailing events
+ * after the relay stopped recognizing them as received. A received message or event that cannot be
+ * decoded, for example one sent by another version of the application, is logged and skipped.
+ *
+ * <pre>
+ * EventRelay relay =
+ *     new EventRelay(events, new BroadcastChannelTransport("my-app"))
+ *         .relay(OrdersChangedEvent.class, "orders-changed", new OrdersChangedCodec())
+ *         .start();
+ * </pre>
+ */
+public class EventRelay implements EventListener {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(EventRelay.class);
+
+  private final BrixEvents events;
+  private final RelayTransport transport;
+  private final EventScheduler scheduler;
+  private final Map<Class<?>, RelayedType<?>> typesByClass = new LinkedHashMap<>();
+  private final Map<String, RelayedType<?>> typesByName = new HashMap<>();
+  private StringBuilder outgoing = new StringBuilder();
+  private boolean scheduled = false;
+  private boolean registering = false;
+  private BrixEvent receiving;
+  private RegistrationRecord eventsRecord;
+  private RegistrationRecord transportRecord;
+
+  /**
+   * Creates a relay batching outgoing events with the scheduler of the relayed bus.
+   *
+   * @param events bus to relay events from and to
+   * @param transport transport connecting the tabs
+   */
+  public EventRelay(BrixEvents events, RelayTransport transport) {
+    this(events, transport, events.getScheduler());
+  }
+
+  /**
+   * @param events bus to relay events from and to
+   * @param transport transport connecting the tabs
+   * @param scheduler scheduler used to batch outgoing events
+   */
+  public EventRelay(BrixEvents events, RelayTransport transport, EventScheduler scheduler) {
+    this.events = events;
+    this.transport = transport;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Relays events of the given concrete type.
+   *
+   * @param type event type
+   * @param name name identifying the type in other tabs
+   * @param codec converts the events to and from strings
+   * @param <E> event type
+   * @return same relay instance
+   */
+  public <E extends BrixEvent> EventRelay relay(Class<E> type, String name, EventCodec<E> codec) {
+    RelayedType<E> relayedType = new RelayedType<>(name, codec);
+    typesByClass.put(type, relayedType);
+    typesByName.put(name, relayedType);
+    if (isStarted()) {
+      registerOnBus();
+    }
+    return this;
+  }
+
+  /**
+   * Starts relaying events, has no effect when already started.
+   *
+   * @return same relay instance
+   */
+  public EventRelay start() {
+    if (!isStarted()) {
+      registerOnBus();
+      transportRecord = transport.listen(this::receive);
+    }
+    return this;
+  }
+
+  /** Stops relaying events, pending outgoing events are discarded. */
+  public void stop() {
+    if (isStarted()) {
+      eventsRecord.remove();
+      transportRecord.remove();
+      eventsRecord = null;
+      transportRecord = null;
+      outgoing = new StringBuilder();
+    }
+  }
+
+  /**
+   * @return true if the relay is started
+   */
+  public boolean isStarted() {
+    return nonNull(eventsRecord);
+  }
+
+  /** Sends the pending outgoing events immediately. */
+  public void flush() {
+    scheduled = false;
+    if (outgoing.length() > 0) {
+      String message = outgoing.toString();
+      outgoing = new StringBuilder();
+      transport.send(message);
+    }
+  }
+
+  @Override
+  public Set<Class<?>> getEventTypes() {
+    return Collections.unmodifiableSet(typesByClass.keySet());
+  }
+
+  @Override
+  public void onEventReceived(BrixEvent event) {
+    RelayedType<?> relayedType = typesByClass.get(event.getType());
+    if (registering || event == receiving || isNull(relayedType)) {
+      return;
+    }
+    Frames.append(outgoing, relayedType.name);
+    Frames.append(outgoing, relayedType.encode(event));
+    if (!scheduled) {
+      scheduled = true;
+      scheduler.schedule(this::flush);
+    }
+  }
+
+  private void registerOnBus() {
+    // sticky events replayed on registration were already seen by the other tabs.
+    registering = true;
+    try {
+      eventsRecord = events.register(this, EventPriority.NORMAL);
+    } finally {
+      registering = false;
+    }
+  }
+
+  private void receive(String message) {
+    List<String> frames;
+    try {
+      frames = Frames.read(message);
+    } catch (EventCodecException e) {
+      LOGGER.error("Skipped a malformed relayed message.", e);
+      return;
+    }
+    for (int i = 0; i + 1 < frames.size(); i += 2) {
+      RelayedType<?> relayedType = typesByName.get(frames.get(i));
+      if (isNull(relayedType)) {
+        LOGGER.warn("Received unknown relayed event type [" + frames.get(i) + "].");
+        continue;
+      }
+      BrixEvent event;
+      try {
+        event = relayedType.codec.decode(frames.get(i + 1));
+      } catch (RuntimeException e) {
+        LOGGER.error("Skipped a relayed event of type [" + frames.get(i) + "].", e);
+        continue;
+      }
+      BrixEvent previous = receiving;
+      receiving = event;
+      try {
+        events.fireImmediately(receiving);
+      } finally {
+        receiving = previous;
+      }
+    }
+  }
+
+  private static final class RelayedType<E extends BrixEvent> {
+    private final String name;
+    private final EventCodec<E> codec;
+
+    private RelayedType(String name, EventCodec<E> codec) {
+      this.name = name;
+      this.codec = codec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String encode(BrixEvent event) {
+      return codec.encode((E) event);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.relay;
+
+import java.util.function.Consumer;
+import org.dominokit.brix.events.CopyOnWriteListeners;
+import org.dominokit.brix.events.RegistrationRecord;
+
+/**
+ * {@link RelayTransport} connecting relays within the same application, for tests. Transports
+ * created from the same {@link Hub} act as tabs of the same browser, messages are delivered
+ * synchronously to every other transport of the hub.
+ */
+public class InMemoryRelayTransport implements RelayTransport {
+
+  private final Hub hub;
+  private final CopyOnWriteListeners<Consumer<String>> receivers = new CopyOnWriteListeners<>();
+
+  private InMemoryRelayTransport(Hub hub) {
+    this.hub = hub;
+  }
+
+  @Override
+  public void send(String message) {
+    hub.transports.dispatch(
+        (transport, sent) -> {
+          if (transport != this) {
+            transport.receivers.dispatch(Consumer::accept, sent);
+          }
+        },
+        message);
+  }
+
+  @Override
+  public RegistrationRecord listen(Consumer<String> receiver) {
+    receivers.add(receiver);
+    return () -> receivers.remove(receiver);
+  }
+
+  /** Group of connected in-memory transports. */
+  public static class Hub {
+    private final CopyOnWriteListeners<InMemoryRelayTransport> transports =
+        new CopyOnWriteListeners<>();
+
+    /**
+     * @return a new transport connected to the other transports of this hub
+     */
+    public InMemoryRelayTransport createTransport() {
+      InMemoryRelayTransport transport = new InMemoryRelayTransport(this);
+      transports.add(transport);
+      return transport;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.relay;
+
+import java.util.function.Consumer;
+import org.dominokit.brix.events.RegistrationRecord;
+
+/**
+ * Carries relay messages between browser tabs. A transport must not deliver a message back to the
+ * tab that sent it.
+ */
+public interface RelayTransport {
+
+  /**
+   * Sends a message to the other tabs.
+   *
+   * @param message encoded batch of events
+   */
+  void send(String message);
+
+  /**
+   * Starts receiving the messages sent by other tabs.
+   *
+   * @param receiver called for every received message
+   * @return registration record to stop receiving
+   */
+  RegistrationRecord listen(Consumer<String> receiver);
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.relay;
+
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.EventListener;
+import elemental2.webstorage.Storage;
+import elemental2.webstorage.StorageEvent;
+import elemental2.webstorage.WebStorageWindow;
+import java.util.function.Consumer;
+import jsinterop.base.Js;
+import org.dominokit.brix.events.RegistrationRecord;
+
+/**
+ * {@link RelayTransport} for browsers without {@code BroadcastChannel}, messages are written to
+ * {@code localStorage} and received by the other tabs through {@code storage} events. Each written
+ * value is prefixed with a random id of the tab and a sequence, so two tabs never write the same
+ * value, and the key is removed right after writing it.
+ */
+public class StorageEventTransport implements RelayTransport {
+
+  private static final String SEPARATOR = "|";
+
+  private final String key;
+  private final String tabId = Long.toString((long) (Math.random() * Long.MAX_VALUE), 36);
+  private int sequence = 0;
+
+  /**
+   * @param channelName name of the channel shared by the tabs
+   */
+  public StorageEventTransport(String channelName) {
+    this.key = "brix-relay:" + channelName;
+  }
+
+  @Override
+  public void send(String message) {
+    // a value equal to the stored one raises no storage event, the prefix makes each write unique.
+    Storage storage = WebStorageWindow.of(DomGlobal.window).localStorage;
+    storage.setItem(key, tabId + SEPARATOR + (sequence++) + SEPARATOR + message);
+    storage.removeItem(key);
+  }
+
+  @Override
+  public RegistrationRecord listen(Consumer<String> receiver) {
+    EventListener listener =
+        evt -> {
+          StorageEvent storageEvent = Js.uncheckedCast(evt);
+          if (key.equals(storageEvent.key) && nonNull(storageEvent.newValue)) {
+            String value = storageEvent.newValue;
+            int start = value.indexOf(SEPARATOR, value.indexOf(SEPARATOR) + 1) + 1;
+            receiver.accept(value.substring(start));
+          }
+        };
+    DomGlobal.window.addEventListener("storage", listener);
+    return () -> DomGlobal.window.removeEventListener("storage", listener);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.impl;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.Element;
+import elemental2.dom.EventListener;
+import org.dominokit.brix.api.RouteDispatcher;
+import org.dominokit.brix.api.RoutePrefetch;
+import org.dominokit.brix.api.RoutePrefetcher;
+import org.dominokit.brix.api.RouterManager;
+import org.dominokit.brix.events.RegistrationRecord;
+
+/**
+ * Prefetches the routes of a link when the user shows the intent to follow it. Focusing or touching
+ * the link starts the prefetch right away, hovering it starts the prefetch after a short delay, and
+ * leaving the link cancels the prefetch if it did not complete yet.
+ */
+public class RoutePrefetchLink {
+
+  /** Delay in milliseconds a link must be hovered before its routes are prefetched. */
+  public static final double HOVER_DELAY = 65;
+
+  private final Element element;
+  private final String token;
+  private final RoutePrefetcher prefetcher;
+  private final EventListener onHover = event -> scheduleHover();
+  private final EventListener onIntent = event -> prefetch();
+  private final EventListener onLeave = event -> cancel();
+  private RoutePrefetch prefetch;
+  private boolean hovered = false;
+
+  /**
+   * Prefetches the routes of the global router matching the token on the link intent.
+   *
+   * @param element link element
+   * @param token history token the link navigates to
+   * @return registration removing the link listeners
+   */
+  public static RegistrationRecord attach(Element element, String token) {
+    return attach(element, token, RouterManager.getPrefetcher());
+  }
+
+  /**
+   * Prefetches the routes matching the token on the link intent.
+   *
+   * @param element link element
+   * @param token history token the link navigates to
+   * @param prefetcher prefetcher of the {@link RouteDispatcher} routes
+   * @return registration removing the link listeners
+   */
+  public static RegistrationRecord attach(
+      Element element, String token, RoutePrefetcher prefetcher) {
+    RoutePrefetchLink link = new RoutePrefetchLink(element, token, prefetcher);
+    link.listen();
+    return link::remove;
+  }
+
+  private RoutePrefetchLink(Element element, String token, RoutePrefetcher prefetcher) {
+    this.element = element;
+    this.token = token;
+    this.prefetcher = prefetcher;
+  }
+
+  private void listen() {
+    element.addEventListener("mouseenter", onHover);
+    element.addEventListener("focus", onIntent);
+    element.addEventListener("touchstart", onIntent);
+    element.addEventListener("mouseleave", onLeave);
+    element.addEventListener("blur", onLeave);
+  }
+
+  private void remove() {
+    element.removeEventListener("mouseenter", onHover);
+    element.removeEventListener("focus", onIntent);
+    element.removeEventListener("touchstart", onIntent);
+    element.removeEventListener("mouseleave", onLeave);
+    element.removeEventListener("blur", onLeave);
+    cancel();
+  }
+
+  private void scheduleHover() {
+    hovered = true;
+    prefetcher
+        .getScheduler()
+        .scheduleDelayed(
+            () -> {
+              if (hovered) {
+                prefetch();
+              }
+            },
+            HOVER_DELAY);
+  }
+
+  private void prefetch() {
+    if (isNull(prefetch) || prefetch.isCancelled()) {
+      prefetch = prefetcher.prefetch(token);
+    }
+  }
+
+  private void cancel() {
+    hovered = false;
+    if (nonNull(prefetch) && !prefetch.isDone()) {
+      prefetch.cancel();
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.dominokit.domino.history.DominoHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncRouteBindingTest {
+
+  private SampleLoading loading;
+  private List<Consumer<RouteBinding>> loads;
+  private List<Consumer<Throwable>> failures;
+  private SampleBinding loaded;
+  private AsyncRouteBinding binding;
+
+  @BeforeEach
+  public void setUp() {
+    loading = new SampleLoading();
+    loads = new ArrayList<>();
+    failures = new ArrayList<>();
+    loaded = new SampleBinding();
+    binding =
+        new AsyncRouteBinding(
+            (onLoaded, onFailure) -> {
+              loads.add(onLoaded);
+              failures.add(onFailure);
+            },
+            loading);
+  }
+
+  @Test
+  public void entersTheLoadedBindingWithTheLatestState() {
+    DominoHistory.State first = state();
+    DominoHistory.State latest = state();
+
+    binding.enter(first);
+    binding.stay(latest);
+    assertEquals(1, loads.size());
+    assertEquals(1, loading.getPendingCount());
+
+    loads.get(0).accept(loaded);
+    assertEquals(List.of(latest), loaded.entered);
+    assertEquals(0, loading.getPendingCount());
+
+    binding.enter(first);
+    assertEquals(1, loads.size());
+    assertEquals(List.of(latest, first), loaded.entered);
+  }
+
+  @Test
+  public void loadsAgainAfterAFailure() {
+    DominoHistory.State state = state();
+
+    binding.enter(state);
+    failures.get(0).accept(new IllegalStateException("offline"));
+    assertEquals(0, loading.getPendingCount());
+    assertTrue(loaded.entered.isEmpty());
+
+    binding.enter(state);
+    assertEquals(2, loads.size());
+    assertEquals(1, loading.getPendingCount());
+
+    loads.get(1).accept(loaded);
+    assertEquals(List.of(state), loaded.entered);
+    assertEquals(0, loading.getPendingCount());
+  }
+
+  @Test
+  public void doesNotEnterARouteLeftWhileLoading() {
+    binding.enter(state());
+    binding.leave();
+
+    loads.get(0).accept(loaded);
+
+    assertTrue(loaded.entered.isEmpty());
+    assertEquals(0, loaded.left);
+    assertEquals(0, loading.getPendingCount());
+  }
+
+  @Test
+  public void preloadsWithoutRevealingTheLoadingView() {
+    List<String> done = new ArrayList<>();
+
+    binding.preload(() -> done.add("preloaded"));
+    assertEquals(0, loading.started);
+
+    loads.get(0).accept(loaded);
+    assertEquals(List.of("preloaded"), done);
+    assertTrue(loaded.entered.isEmpty());
+  }
+
+  @Test
+  public void sharesOneLoadBetweenPreloadAndEnter() {
+    DominoHistory.State state = state();
+
+    binding.preload(() -> {});
+    binding.enter(state);
+    assertEquals(1, loads.size());
+    assertEquals(1, loading.getPendingCount());
+
+    loads.get(0).accept(loaded);
+    assertEquals(List.of(state), loaded.entered);
+    assertEquals(0, loading.getPendingCount());
+  }
+
+  private static DominoHistory.State state() {
+    return (DominoHistory.State)
+        Proxy.newProxyInstance(
+            DominoHistory.State.class.getClassLoader(),
+            new Class<?>[] {DominoHistory.State.class},
+            (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0] : null);
+  }
+
+  private static class SampleLoading extends RouteLoading {
+    private int started = 0;
+    private int pending = 0;
+
+    @Override
+    public int getPendingCount() {
+      return pending;
+    }
+
+    @Override
+    void started() {
+      started++;
+      pending++;
+    }
+
+    @Override
+    void finished() {
+      pending--;
+    }
+  }
+
+  private static class SampleBinding implements RouteBinding {
+    private final List<DominoHistory.State> entered = new ArrayList<>();
+    private int left = 0;
+
+    @Override
+    public void enter(DominoHistory.State state) {
+      entered.add(state);
+    }
+
+    @Override
+    public void leave() {
+      left++;
+    }
+  }
+}
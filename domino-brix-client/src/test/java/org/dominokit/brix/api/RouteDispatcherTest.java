@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.dominokit.brix.events.RegistrationRecord;
+import org.dominokit.domino.history.AppHistory;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.HistoryToken;
+import org.dominokit.domino.history.NormalizedToken;
+import org.dominokit.domino.history.StateHistoryToken;
+import org.dominokit.domino.history.TokenFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RouteDispatcherTest {
+
+  private final List<DominoHistory.StateListener> listeners = new ArrayList<>();
+  private final List<String> calls = new ArrayList<>();
+  private RouteDispatcher dispatcher;
+
+  @BeforeEach
+  public void setUp() {
+    dispatcher =
+        new RouteDispatcher(
+            (AppHistory)
+                Proxy.newProxyInstance(
+                    AppHistory.class.getClassLoader(),
+                    new Class<?>[] {AppHistory.class},
+                    (proxy, method, args) -> {
+                      if (method.getName().equals("listen")) {
+                        listeners.add((DominoHistory.StateListener) args[args.length - 1]);
+                      }
+                      return null;
+                    }));
+  }
+
+  @Test
+  public void notifiesEnteringStayingAndLeavingRoutes() {
+    addRoute("orders");
+    addRoute("customers");
+
+    navigate("orders");
+    navigate("orders/list");
+    navigate("customers");
+
+    assertEquals(
+        Arrays.asList("enter orders", "stay orders", "leave orders", "enter customers"), calls);
+    assertEquals(1, dispatcher.getActiveRoutesCount());
+  }
+
+  @Test
+  public void matchesStaticAndParameterSegments() {
+    addRoute("orders/new");
+    addRoute("orders/:id");
+
+    navigate("orders/new");
+    navigate("orders/42");
+
+    assertEquals(
+        Arrays.asList(
+            "enter orders/new", "enter orders/:id", "leave orders/new", "stay orders/:id"),
+        calls);
+  }
+
+  @Test
+  public void stopsNotifyingRemovedRoutes() {
+    RegistrationRecord orders = addRoute("orders");
+    addRoute("orders/:id");
+
+    navigate("orders/42");
+    orders.remove();
+    navigate("orders/43");
+    orders.remove();
+
+    assertEquals(Arrays.asList("enter orders", "enter orders/:id", "stay orders/:id"), calls);
+    assertEquals(1, dispatcher.getRoutesCount());
+    assertEquals(1, dispatcher.getActiveRoutesCount());
+  }
+
+  @Test
+  public void listensToTheRouterOnce() {
+    addRoute("orders");
+    addRoute("customers");
+
+    assertEquals(1, listeners.size());
+    assertEquals(2, dispatcher.getRoutesCount());
+  }
+
+  private RegistrationRecord addRoute(String path) {
+    return dispatcher.addRoute(
+        routing(path),
+        new RouteBinding() {
+          @Override
+          public void enter(DominoHistory.State state) {
+            calls.add("enter " + path);
+          }
+
+          @Override
+          public void stay(DominoHistory.State state) {
+            calls.add("stay " + path);
+          }
+
+          @Override
+          public void leave() {
+            calls.add("leave " + path);
+          }
+        });
+  }
+
+  private void navigate(String token) {
+    HistoryToken historyToken = new StateHistoryToken(token);
+    DominoHistory.State state =
+        new DominoHistory.State() {
+          @Override
+          public HistoryToken token() {
+            return historyToken;
+          }
+
+          @Override
+          public String data() {
+            return null;
+          }
+
+          @Override
+          public String title() {
+            return token;
+          }
+
+          @Override
+          public NormalizedToken normalizedToken() {
+            return null;
+          }
+        };
+    listeners.forEach(listener -> listener.onPopState(state));
+  }
+
+  private static RoutingProvider routing(String path) {
+    List<String> segments = Arrays.asList(path.split("/"));
+    return new RoutingProvider() {
+      @Override
+      public String getRoutingPath() {
+        return path;
+      }
+
+      @Override
+      public TokenFilter tokenFilter() {
+        return token -> {
+          List<String> paths = token.paths();
+          if (paths.size() < segments.size()) {
+            return false;
+          }
+          for (int index = 0; index < segments.size(); index++) {
+            String segment = segments.get(index);
+            if (!segment.startsWith(":") && !segment.equals(paths.get(index))) {
+              return false;
+            }
+          }
+          return true;
+        };
+      }
+    };
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.brix.events.VirtualEventScheduler;
+import org.dominokit.domino.history.AppHistory;
+import org.dominokit.domino.history.DominoHistory;
+import org.dominokit.domino.history.TokenFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RoutePrefetcherTest {
+
+  private SampleBinding binding;
+  private RoutePrefetcher prefetcher;
+
+  @BeforeEach
+  public void setUp() {
+    RouteDispatcher dispatcher = new RouteDispatcher(router());
+    binding = new SampleBinding();
+    dispatcher.addRoute(routing("orders"), binding);
+    prefetcher = new RoutePrefetcher(dispatcher, new VirtualEventScheduler());
+  }
+
+  @Test
+  public void preparesEachRouteOnce() {
+    prefetcher.prefetch("orders");
+    binding.load();
+    prefetcher.prefetch("orders");
+
+    assertEquals(1, binding.preloaded);
+    assertEquals(1, binding.prepared);
+  }
+
+  @Test
+  public void prefetchesARouteAgainAfterItsInFlightPrefetchIsCancelled() {
+    RoutePrefetch prefetch = prefetcher.prefetch("orders");
+    prefetch.cancel();
+    RoutePrefetch retry = prefetcher.prefetch("orders");
+
+    binding.load();
+    assertEquals(0, binding.prepared);
+    binding.load();
+    assertEquals(1, binding.prepared);
+    assertTrue(retry.isDone());
+  }
+
+  @Test
+  public void prefetchesARouteAgainAfterItsComponentIsReset() {
+    prefetcher.prefetch("orders");
+    binding.load();
+    binding.reset();
+
+    prefetcher.prefetch("orders");
+    binding.load();
+
+    assertEquals(2, binding.prepared);
+  }
+
+  static AppHistory router() {
+    return (AppHistory)
+        Proxy.newProxyInstance(
+            AppHistory.class.getClassLoader(),
+            new Class<?>[] {AppHistory.class},
+            (proxy, method, args) -> null);
+  }
+
+  static RoutingProvider routing(String path) {
+    return new RoutingProvider() {
+      @Override
+      public String getRoutingPath() {
+        return path;
+      }
+
+      @Override
+      public TokenFilter tokenFilter() {
+        return token -> token.paths().size() > 0 && token.paths().get(0).equals(path);
+      }
+    };
+  }
+
+  private static class SampleBinding implements RouteBinding {
+    private final List<Runnable> loads = new ArrayList<>();
+    private int preloaded = 0;
+    private int prepared = 0;
+    private boolean created = false;
+
+    @Override
+    public void enter(DominoHistory.State state) {}
+
+    @Override
+    public void leave() {}
+
+    @Override
+    public void preload(Runnable onLoaded) {
+      preloaded++;
+      loads.add(onLoaded);
+    }
+
+    @Override
+    public void prepare() {
+      prepared++;
+      created = true;
+    }
+
+    @Override
+    public boolean isPrepared() {
+      return created;
+    }
+
+    private void load() {
+      loads.remove(0).run();
+    }
+
+    private void reset() {
+      created = false;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RouteTrieTest {
+
+  private final RouteTrie<String> trie = new RouteTrie<>();
+
+  @Test
+  public void collectsTheRoutesWhosePathIsAPrefixOfTheToken() {
+    trie.add("orders", "orders");
+    trie.add("/orders/list/", "list");
+    trie.add("customers", "customers");
+
+    assertEquals(Arrays.asList("orders", "list"), collect("orders", "list", "all"));
+    assertEquals(Arrays.asList("orders"), collect("orders"));
+    assertEquals(Arrays.asList(), collect("products"));
+  }
+
+  @Test
+  public void matchesEmptyPathsWithEveryToken() {
+    trie.add("", "root");
+    trie.add("orders", "orders");
+
+    assertEquals(Arrays.asList("root", "orders"), collect("orders"));
+    assertEquals(Arrays.asList("root"), collect());
+  }
+
+  @Test
+  public void matchesParameterSegmentsWithAnySegment() {
+    trie.add("orders/new", "new");
+    trie.add("orders/:id", "order");
+    trie.add("orders/{id}/items", "items");
+
+    assertEquals(Arrays.asList("new", "order"), collect("orders", "new"));
+    assertEquals(Arrays.asList("order", "items"), collect("orders", "42", "items"));
+    assertEquals(Arrays.asList(), collect("customers", "42"));
+  }
+
+  @Test
+  public void removesOnlyTheGivenRoute() {
+    trie.add("orders/:id", "first");
+    trie.add("orders/{key}", "second");
+
+    trie.remove("orders/:id", "first");
+    trie.remove("orders/unknown/path", "second");
+
+    assertEquals(Arrays.asList("second"), collect("orders", "42"));
+  }
+
+  private List<String> collect(String... paths) {
+    List<String> matches = new ArrayList<>();
+    trie.collect(Arrays.asList(paths), matches);
+    return matches;
+  }
+}
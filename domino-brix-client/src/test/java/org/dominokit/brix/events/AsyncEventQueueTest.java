@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncEventQueueTest {
+
+  private SlowScheduler scheduler;
+  private CoalescePolicies policies;
+  private AsyncEventQueue queue;
+  private List<BrixEvent> received;
+  private double deliveryTime = 0;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new SlowScheduler();
+    policies = new CoalescePolicies();
+    received = new ArrayList<>();
+    queue =
+        new AsyncEventQueue(
+            scheduler,
+            policies,
+            (source, event) -> {
+              scheduler.elapsed += deliveryTime;
+              received.add(event);
+            });
+  }
+
+  @Test
+  public void deliversTheBacklogInOrderOnTheNextMicrotask() {
+    SampleEvent first = new SampleEvent();
+    SampleEvent second = new SampleEvent();
+
+    queue.add(null, first);
+    queue.add(null, second);
+    assertTrue(received.isEmpty());
+    assertEquals(2, queue.getStats().getQueueDepth());
+
+    scheduler.runPending();
+    assertEquals(List.of(first, second), received);
+    assertEquals(0, queue.getStats().getQueueDepth());
+    assertEquals(2, queue.getStats().getMaxQueueDepth());
+    assertEquals(2, queue.getStats().getDeliveredEvents());
+  }
+
+  @Test
+  public void drainsOncePerFrameInAnimationFrameMode() {
+    queue.setOptions(AsyncEventOptions.create().setDrainMode(DrainMode.ANIMATION_FRAME));
+
+    queue.add(null, new SampleEvent());
+    scheduler.runPending();
+    assertTrue(received.isEmpty());
+
+    scheduler.advance(VirtualEventScheduler.FRAME_INTERVAL);
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  public void drainsInSlicesWithinTheBudget() {
+    queue.setOptions(
+        AsyncEventOptions.create().setDrainMode(DrainMode.ANIMATION_FRAME).setSliceBudget(8));
+    deliveryTime = 5;
+    for (int i = 0; i < 5; i++) {
+      queue.add(null, new SampleEvent());
+    }
+
+    scheduler.advance(VirtualEventScheduler.FRAME_INTERVAL);
+    assertEquals(2, received.size());
+    scheduler.advance(VirtualEventScheduler.FRAME_INTERVAL);
+    assertEquals(4, received.size());
+    scheduler.advance(VirtualEventScheduler.FRAME_INTERVAL);
+    assertEquals(5, received.size());
+    assertEquals(10, queue.getStats().getMaxDrainTime());
+    assertEquals(5, queue.getStats().getLastDrainTime());
+  }
+
+  @Test
+  public void schedulesTheSlicesFollowingAMicrotaskAsDelayedTasks() {
+    queue.setOptions(AsyncEventOptions.create().setSliceBudget(8));
+    deliveryTime = 5;
+    for (int i = 0; i < 5; i++) {
+      queue.add(null, new SampleEvent());
+    }
+
+    scheduler.runPending();
+
+    assertEquals(5, received.size());
+    assertEquals(1, scheduler.microtasks);
+    assertEquals(2, scheduler.delayedTasks);
+  }
+
+  @Test
+  public void dropsTheOldestEventWhenFull() {
+    queue.setOptions(AsyncEventOptions.create().setCapacity(2));
+    SampleEvent second = new SampleEvent();
+    SampleEvent third = new SampleEvent();
+
+    queue.add(null, new SampleEvent());
+    queue.add(null, second);
+    queue.add(null, third);
+    scheduler.runPending();
+
+    assertEquals(List.of(second, third), received);
+    assertEquals(1, queue.getStats().getDroppedEvents());
+  }
+
+  @Test
+  public void coalescesIntoThePendingEventOfTheSameKeyWhenFull() {
+    queue.setOptions(
+        AsyncEventOptions.create().setCapacity(2).setOverflowPolicy(OverflowPolicy.COALESCE));
+    KeyedSampleEvent other = new KeyedSampleEvent("b");
+    KeyedSampleEvent latest = new KeyedSampleEvent("a");
+
+    queue.add(null, new KeyedSampleEvent("a"));
+    queue.add(null, other);
+    queue.add(null, latest);
+    scheduler.runPending();
+
+    assertEquals(List.of(latest, other), received);
+    assertEquals(1, queue.getStats().getCoalescedEvents());
+    assertEquals(0, queue.getStats().getDroppedEvents());
+  }
+
+  @Test
+  public void dropsTheOldestEventWhenThereIsNothingToCoalesceWith() {
+    queue.setOptions(
+        AsyncEventOptions.create().setCapacity(2).setOverflowPolicy(OverflowPolicy.COALESCE));
+    policies.set(KeyedSampleEvent.class, CoalescePolicy.keepAll());
+    KeyedSampleEvent other = new KeyedSampleEvent("b");
+    KeyedSampleEvent latest = new KeyedSampleEvent("a");
+
+    queue.add(null, new KeyedSampleEvent("a"));
+    queue.add(null, other);
+    queue.add(null, latest);
+    scheduler.runPending();
+
+    assertEquals(List.of(other, latest), received);
+    assertEquals(0, queue.getStats().getCoalescedEvents());
+    assertEquals(1, queue.getStats().getDroppedEvents());
+  }
+
+  @Test
+  public void keepsEveryEventWhileTheBacklogIsNotFull() {
+    queue.setOptions(AsyncEventOptions.create().setOverflowPolicy(OverflowPolicy.COALESCE));
+
+    queue.add(null, new KeyedSampleEvent("a"));
+    queue.add(null, new KeyedSampleEvent("a"));
+    scheduler.runPending();
+
+    assertEquals(2, received.size());
+  }
+
+  @Test
+  public void drainsTheBacklogInTheCallerStackWhenBlocking() {
+    queue.setOptions(
+        AsyncEventOptions.create().setCapacity(1).setOverflowPolicy(OverflowPolicy.BLOCK_SYNC));
+    SampleEvent first = new SampleEvent();
+    SampleEvent second = new SampleEvent();
+
+    queue.add(null, first);
+    queue.add(null, second);
+    assertEquals(List.of(first, second), received);
+
+    scheduler.runPending();
+    assertEquals(2, received.size());
+  }
+
+  private static class SlowScheduler extends VirtualEventScheduler {
+    private double elapsed = 0;
+    private int microtasks = 0;
+    private int delayedTasks = 0;
+
+    @Override
+    public void schedule(Runnable task) {
+      microtasks++;
+      super.schedule(task);
+    }
+
+    @Override
+    public void scheduleDelayed(Runnable task, double delay) {
+      delayedTasks++;
+      super.scheduleDelayed(task, delay);
+    }
+
+    @Override
+    public double now() {
+      return super.now() + elapsed;
+    }
+  }
+
+  private static class SampleEvent extends BrixEvent {}
+
+  private static class KeyedSampleEvent extends BrixEvent implements KeyedEvent {
+    private final String key;
+
+    private KeyedSampleEvent(String key) {
+      this.key = key;
+    }
+
+    @Override
+    public Object getEventKey() {
+      return key;
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BrixEventsTest {
+
+  private VirtualEventScheduler scheduler;
+  private BrixEvents events;
+  private List<BrixEvent> received;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new VirtualEventScheduler();
+    events = new BrixEvents(scheduler);
+    received = new ArrayList<>();
+  }
+
+  @Test
+  public void firesSynchronouslyWithoutABrowser() {
+    events.register(received::add);
+    SampleEvent event = new SampleEvent();
+
+    events.fireEvent(event);
+
+    assertEquals(List.of(event), received);
+    assertEquals(0, scheduler.getPendingCount());
+  }
+
+  @Test
+  public void deliversDeferredEventsOnTheSchedulerTick() {
+    events.register(received::add);
+    SampleEvent event = new SampleEvent();
+
+    events.fireDeferred(event);
+    assertTrue(received.isEmpty());
+
+    scheduler.runPending();
+    assertEquals(List.of(event), received);
+  }
+
+  @Test
+  public void notifiesLowPriorityListenersWhenIdle() {
+    events.register(received::add, EventPriority.LOW);
+
+    events.fireEvent(new SampleEvent());
+    assertTrue(received.isEmpty());
+
+    scheduler.advance(VirtualEventScheduler.FRAME_INTERVAL);
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  public void deliversDebouncedEventsAfterTheQuietTime() {
+    events.register(received::add);
+    events.setRateLimit(SampleEvent.class, RateLimit.debounce(100));
+    SampleEvent last = new SampleEvent();
+
+    events.fireEvent(new SampleEvent());
+    scheduler.advance(50);
+    events.fireEvent(last);
+    scheduler.advance(99);
+    assertTrue(received.isEmpty());
+
+    scheduler.advance(1);
+    assertEquals(List.of(last), received);
+  }
+
+  @Test
+  public void childBusesUseTheSchedulerOfTheirParent() {
+    BrixEvents child = events.createChild();
+    child.register(received::add);
+
+    assertSame(scheduler, child.getScheduler());
+    events.fireDeferred(new SampleEvent());
+    scheduler.runPending();
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  public void keepsTheSourceOfDeferredEvents() {
+    Object source = new Object();
+    events.register(received::add, source);
+
+    events.fireDeferred(source, new SampleEvent());
+    events.fireDeferred(new SampleEvent());
+    scheduler.runPending();
+
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  public void keepsTheSourceOfAsyncEvents() {
+    Object source = new Object();
+    events.register(received::add, source);
+
+    events.fireAsync(source, new SampleEvent());
+    events.fireAsync(new SampleEvent());
+    scheduler.runPending();
+
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  public void doesNotCoalesceDeferredEventsOfDifferentSources() {
+    Object first = new Object();
+    Object second = new Object();
+    List<BrixEvent> secondReceived = new ArrayList<>();
+    events.register(received::add, first);
+    events.register(secondReceived::add, second);
+
+    events.fireDeferred(first, new SampleEvent());
+    events.fireDeferred(second, new SampleEvent());
+    scheduler.runPending();
+
+    assertEquals(1, received.size());
+    assertEquals(1, secondReceived.size());
+  }
+
+  @Test
+  public void countsListenersOfDescendantBuses() {
+    BrixEvents child = events.createChild();
+    BrixEvents grandChild = child.createChild();
+    EventListener listener = typedListener(SampleEvent.class);
+
+    grandChild.register(listener, new Object());
+    assertTrue(events.hasListeners(SampleEvent.class));
+    assertTrue(child.hasListeners(SampleEvent.class));
+    assertFalse(events.hasListeners(OtherEvent.class));
+
+    grandChild.register(listener);
+    grandChild.unregister(listener);
+    assertFalse(events.hasListeners(SampleEvent.class));
+    assertFalse(grandChild.hasListeners(SampleEvent.class));
+  }
+
+  @Test
+  public void countsWildcardListenersForEveryType() {
+    RegistrationRecord registration = events.createChild().register(received::add);
+    assertTrue(events.hasListeners(SampleEvent.class));
+    assertTrue(events.hasListeners(OtherEvent.class));
+
+    registration.remove();
+    assertFalse(events.hasListeners(SampleEvent.class));
+  }
+
+  @Test
+  public void buildsSuppliedEventsForTapsOfTheBusAndItsAncestors() {
+    BrixEvents child = events.createChild();
+    RegistrationRecord tap = events.tap(received::add);
+
+    child.fireEvent(SampleEvent.class, SampleEvent::new);
+    assertTrue(child.hasListeners(SampleEvent.class));
+    assertEquals(1, received.size());
+
+    tap.remove();
+    child.tap(received::add);
+    assertFalse(events.hasListeners(SampleEvent.class));
+    assertTrue(child.hasListeners(SampleEvent.class));
+  }
+
+  @Test
+  public void forgetsTheListenersOfDisposedBuses() {
+    BrixEvents child = events.createChild();
+    child.createChild().register(typedListener(SampleEvent.class));
+    child.register(typedListener(OtherEvent.class));
+    events.register(typedListener(OtherEvent.class));
+
+    child.dispose();
+
+    assertFalse(events.hasListeners(SampleEvent.class));
+    assertTrue(events.hasListeners(OtherEvent.class));
+  }
+
+  @Test
+  public void replaysTheStickyEventOfTheNearestBus() {
+    BrixEvents child = events.createChild();
+    SampleEvent newer = new SampleEvent();
+    OtherEvent inherited = new OtherEvent();
+    events.fireSticky(new SampleEvent());
+    events.fireSticky(inherited);
+    child.fireSticky(newer);
+
+    child.register(received::add);
+
+    assertEquals(List.of(newer, inherited), received);
+  }
+
+  private EventListener typedListener(Class<?> type) {
+    return new EventListener() {
+      @Override
+      public void onEventReceived(BrixEvent event) {
+        received.add(event);
+      }
+
+      @Override
+      public Set<Class<?>> getEventTypes() {
+        return Set.of(type);
+      }
+    };
+  }
+
+  private static class SampleEvent extends BrixEvent {}
+
+  private static class OtherEvent extends BrixEvent {}
+}
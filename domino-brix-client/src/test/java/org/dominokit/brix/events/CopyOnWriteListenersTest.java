@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+public class CopyOnWriteListenersTest {
+
+  private final CopyOnWriteListeners<Consumer<String>> listeners = new CopyOnWriteListeners<>();
+  private final List<String> calls = new ArrayList<>();
+
+  @Test
+  public void notifiesInRegistrationOrderAndIgnoresDuplicates() {
+    Consumer<String> first = value -> calls.add("first " + value);
+    Consumer<String> second = value -> calls.add("second " + value);
+
+    assertTrue(listeners.add(first));
+    assertTrue(listeners.add(second));
+    assertFalse(listeners.add(first));
+    listeners.dispatch(Consumer::accept, "a");
+
+    assertEquals(List.of("first a", "second a"), calls);
+    assertEquals(2, listeners.size());
+  }
+
+  @Test
+  public void listenersAddedDuringADispatchAreNotifiedFromTheNextOne() {
+    Consumer<String> added = value -> calls.add("added " + value);
+    listeners.add(
+        value -> {
+          calls.add("adding " + value);
+          listeners.add(added);
+        });
+
+    listeners.dispatch(Consumer::accept, "a");
+    listeners.dispatch(Consumer::accept, "b");
+
+    assertEquals(List.of("adding a", "adding b", "added b"), calls);
+  }
+
+  @Test
+  public void listenersRemovedDuringADispatchAreStillNotifiedByIt() {
+    Consumer<String> removed = value -> calls.add("removed " + value);
+    listeners.add(
+        value -> {
+          calls.add("removing " + value);
+          listeners.remove(removed);
+        });
+    listeners.add(removed);
+
+    listeners.dispatch(Consumer::accept, "a");
+    listeners.dispatch(Consumer::accept, "b");
+
+    assertEquals(List.of("removing a", "removed a", "removing b"), calls);
+    assertFalse(listeners.remove(removed));
+  }
+
+  @Test
+  public void isolatesTheFailuresOfAListener() {
+    listeners.add(
+        value -> {
+          throw new IllegalStateException(value);
+        });
+    listeners.add(value -> calls.add("after " + value));
+
+    listeners.dispatch(Consumer::accept, "a");
+
+    assertEquals(List.of("after a"), calls);
+  }
+
+  @Test
+  public void forEachDoesNotIsolateFailures() {
+    listeners.add(
+        value -> {
+          throw new IllegalStateException(value);
+        });
+    listeners.add(value -> calls.add("after " + value));
+
+    assertThrows(IllegalStateException.class, () -> listeners.forEach(l -> l.accept("a")));
+    assertTrue(calls.isEmpty());
+  }
+
+  @Test
+  public void clearRemovesEveryListener() {
+    listeners.add(value -> calls.add(value));
+    listeners.add(value -> calls.add(value));
+
+    listeners.clear();
+    listeners.dispatch(Consumer::accept, "a");
+
+    assertTrue(listeners.isEmpty());
+    assertTrue(calls.isEmpty());
+  }
+}
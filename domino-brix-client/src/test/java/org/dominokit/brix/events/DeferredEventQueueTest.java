@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DeferredEventQueueTest {
+
+  private VirtualEventScheduler scheduler;
+  private CoalescePolicies policies;
+  private DeferredEventQueue queue;
+  private List<BrixEvent> received;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new VirtualEventScheduler();
+    policies = new CoalescePolicies();
+    received = new ArrayList<>();
+    queue = new DeferredEventQueue(scheduler, policies, (source, event) -> received.add(event));
+  }
+
+  @Test
+  public void deliversEveryPendingEventOnASingleTick() {
+    SampleEvent first = new SampleEvent();
+    OtherEvent second = new OtherEvent();
+
+    queue.add(null, first);
+    queue.add(null, second);
+    assertTrue(received.isEmpty());
+    assertEquals(1, scheduler.getPendingCount());
+
+    scheduler.runPending();
+    assertEquals(List.of(first, second), received);
+  }
+
+  @Test
+  public void keepsTheLatestEventOfTheSameTypeWithoutAKey() {
+    SampleEvent latest = new SampleEvent();
+
+    queue.add(null, new SampleEvent());
+    queue.add(null, latest);
+    scheduler.runPending();
+
+    assertEquals(List.of(latest), received);
+  }
+
+  @Test
+  public void keepsTheLatestEventOfTheSameKeyAtTheFirstPosition() {
+    KeyedSampleEvent other = new KeyedSampleEvent("b");
+    KeyedSampleEvent latest = new KeyedSampleEvent("a");
+
+    queue.add(null, new KeyedSampleEvent("a"));
+    queue.add(null, other);
+    queue.add(null, latest);
+    scheduler.runPending();
+
+    assertEquals(List.of(latest, other), received);
+  }
+
+  @Test
+  public void coalescesOnlyEventsFiredWithTheSameSource() {
+    queue.add(new Object(), new KeyedSampleEvent("a"));
+    queue.add(new Object(), new KeyedSampleEvent("a"));
+    scheduler.runPending();
+
+    assertEquals(2, received.size());
+  }
+
+  @Test
+  public void appliesTheCoalescePolicyOfTheEventType() {
+    policies.set(KeyedSampleEvent.class, (pending, fired) -> pending);
+    KeyedSampleEvent first = new KeyedSampleEvent("a");
+
+    queue.add(null, first);
+    queue.add(null, new KeyedSampleEvent("a"));
+    scheduler.runPending();
+    assertEquals(List.of(first), received);
+
+    policies.set(KeyedSampleEvent.class, CoalescePolicy.keepAll());
+    queue.add(null, new KeyedSampleEvent("a"));
+    queue.add(null, new KeyedSampleEvent("a"));
+    scheduler.runPending();
+    assertEquals(3, received.size());
+  }
+
+  @Test
+  public void clearDropsThePendingEvents() {
+    SampleEvent afterClear = new SampleEvent();
+
+    queue.add(null, new SampleEvent());
+    queue.clear();
+    queue.add(null, afterClear);
+    scheduler.runPending();
+
+    assertEquals(List.of(afterClear), received);
+  }
+
+  private static class SampleEvent extends BrixEvent {}
+
+  private static class OtherEvent extends BrixEvent {}
+
+  private static class KeyedSampleEvent extends BrixEvent implements KeyedEvent {
+    private final String key;
+
+    private KeyedSampleEvent(String key) {
+      this.key = key;
+    }
+
+    @Override
+    public Object getEventKey() {
+      return key;
+    }
+  }
+}
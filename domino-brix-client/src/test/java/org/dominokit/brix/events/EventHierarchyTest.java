@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class EventHierarchyTest {
+
+  @BeforeAll
+  public static void registerTypes() {
+    EventHierarchy.register(LoginEvent.class, AuditEvent.class, Tracked.class);
+  }
+
+  @Test
+  public void listsTheClassFollowedByItsRegisteredSupertypes() {
+    assertArrayEquals(
+        new Class<?>[] {LoginEvent.class, AuditEvent.class, Tracked.class},
+        EventHierarchy.typesOf(new LoginEvent()));
+  }
+
+  @Test
+  public void unregisteredClassesOnlyMatchThemselves() {
+    assertArrayEquals(
+        new Class<?>[] {LogoutEvent.class}, EventHierarchy.typesOf(new LogoutEvent()));
+  }
+
+  @Test
+  public void deliversEventsToSupertypeListeners() {
+    BrixEvents events = new BrixEvents(new VirtualEventScheduler());
+    List<BrixEvent> received = new ArrayList<>();
+    events.register(listener(received, Tracked.class));
+
+    events.fireEvent(new LoginEvent());
+    events.fireEvent(new LogoutEvent());
+
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  public void answersHasListenersForTypesNeverDispatched() {
+    BrixEvents events = new BrixEvents(new VirtualEventScheduler());
+    events.register(listener(new ArrayList<>(), AuditEvent.class));
+
+    assertTrue(events.hasListeners(LoginEvent.class));
+    assertFalse(events.hasListeners(LogoutEvent.class));
+  }
+
+  private static EventListener listener(List<BrixEvent> received, Class<?> type) {
+    return new EventListener() {
+      @Override
+      public void onEventReceived(BrixEvent event) {
+        received.add(event);
+      }
+
+      @Override
+      public Set<Class<?>> getEventTypes() {
+        return Set.of(type);
+      }
+    };
+  }
+
+  interface Tracked {}
+
+  abstract static class AuditEvent extends BrixEvent {}
+
+  static class LoginEvent extends AuditEvent implements Tracked {}
+
+  static class LogoutEvent extends AuditEvent {}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EventMetricsTest {
+
+  private SlowScheduler scheduler;
+  private BrixEvents events;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new SlowScheduler();
+    events = new BrixEvents(scheduler);
+  }
+
+  @Test
+  public void bucketsCountsAndApproximatesPercentiles() {
+    MetricsHistogram histogram = MetricsHistogram.counts();
+    histogram.record(0);
+    histogram.record(1);
+    histogram.record(3);
+    histogram.record(300);
+
+    assertEquals(4, histogram.getCount());
+    assertEquals(304, histogram.getSum());
+    assertEquals(76, histogram.getMean());
+    assertEquals(300, histogram.getMax());
+    assertEquals(0, histogram.getPercentile(25));
+    assertEquals(1, histogram.getPercentile(50));
+    assertEquals(4, histogram.getPercentile(75));
+    assertEquals(300, histogram.getPercentile(100));
+  }
+
+  @Test
+  public void capsPercentilesAtTheMax() {
+    MetricsHistogram histogram = MetricsHistogram.latency();
+    histogram.record(0.3);
+    histogram.record(0.3);
+    histogram.record(3);
+
+    assertEquals(0.5, histogram.getPercentile(50));
+    assertEquals(3, histogram.getPercentile(100));
+  }
+
+  @Test
+  public void reportsZeroForAnEmptyHistogram() {
+    MetricsHistogram histogram = MetricsHistogram.latency();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMean());
+    assertEquals(0, histogram.getPercentile(99));
+  }
+
+  @Test
+  public void collectsFiresAndFanOutPerEventType() {
+    EventMetrics metrics = events.enableMetrics();
+    events.register(event -> {});
+    events.register(event -> {});
+
+    events.fireEvent(new SampleEvent());
+    events.fireEvent(new SampleEvent());
+    events.fireEvent(new OtherEvent());
+
+    EventTypeMetrics sample = metrics.getEventTypes().get(SampleEvent.class);
+    assertEquals(2, sample.getFires());
+    assertEquals(2, sample.getFanOut().getMax());
+    assertEquals(1, metrics.getEventTypes().get(OtherEvent.class).getFires());
+  }
+
+  @Test
+  public void measuresTheTimeSpentInEachListener() {
+    EventMetrics metrics = events.enableMetrics();
+    events.register(event -> scheduler.elapsed += 3);
+
+    events.fireEvent(new SampleEvent());
+
+    assertEquals(1, metrics.getListeners().size());
+    MetricsHistogram latency = metrics.getListeners().values().iterator().next();
+    assertEquals(1, latency.getCount());
+    assertEquals(3, latency.getMax());
+  }
+
+  @Test
+  public void sharesMetricsWithChildBuses() {
+    BrixEvents before = events.createChild();
+    EventMetrics metrics = events.enableMetrics();
+    BrixEvents after = events.createChild();
+
+    before.fireEvent(new SampleEvent());
+    after.fireEvent(new SampleEvent());
+
+    assertSame(metrics, before.getMetrics().orElse(null));
+    assertSame(metrics, after.getMetrics().orElse(null));
+    assertEquals(2, metrics.getEventTypes().get(SampleEvent.class).getFires());
+  }
+
+  @Test
+  public void stopsCollectingWhenDisabled() {
+    EventMetrics metrics = events.enableMetrics();
+    BrixEvents child = events.createChild();
+    events.register(event -> {});
+
+    events.disableMetrics();
+    events.fireEvent(new SampleEvent());
+
+    assertFalse(events.getMetrics().isPresent());
+    assertFalse(child.getMetrics().isPresent());
+    assertTrue(metrics.getEventTypes().isEmpty());
+    assertTrue(metrics.getListeners().isEmpty());
+  }
+
+  @Test
+  public void enablingAgainStartsFresh() {
+    EventMetrics first = events.enableMetrics();
+    events.fireEvent(new SampleEvent());
+
+    EventMetrics second = events.enableMetrics();
+
+    assertEquals(1, first.getEventTypes().size());
+    assertTrue(second.getEventTypes().isEmpty());
+  }
+
+  private static class SlowScheduler extends VirtualEventScheduler {
+    private double elapsed = 0;
+
+    @Override
+    public double now() {
+      return super.now() + elapsed;
+    }
+  }
+
+  private static class SampleEvent extends BrixEvent {}
+
+  private static class OtherEvent extends BrixEvent {}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EventPoolTest {
+
+  private VirtualEventScheduler scheduler;
+  private BrixEvents events;
+  private EventPool<PointerEvent> pool;
+  private int created;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new VirtualEventScheduler();
+    events = new BrixEvents(scheduler);
+    created = 0;
+    pool =
+        EventPool.create(
+            () -> {
+              created++;
+              return new PointerEvent();
+            });
+  }
+
+  @Test
+  public void reusesReleasedInstances() {
+    PointerEvent first = pool.acquire();
+    assertTrue(first.isPooled());
+
+    first.release();
+    PointerEvent second = pool.acquire();
+
+    assertSame(first, second);
+    assertEquals(1, created);
+    assertEquals(0, pool.getAvailable());
+  }
+
+  @Test
+  public void resetsThePayloadOnRelease() {
+    PointerEvent event = pool.acquire().setX(42);
+
+    event.release();
+
+    assertEquals(0, event.x);
+    assertFalse(event.isPooled());
+    assertEquals(1, pool.getAvailable());
+  }
+
+  @Test
+  public void givesReacquiredInstancesANewId() {
+    PointerEvent event = pool.acquire();
+    String first = event.getEventId();
+    event.release();
+
+    assertSame(event, pool.acquire());
+    assertNotEquals(first, event.getEventId());
+  }
+
+  @Test
+  public void ignoresReleasingAnInstanceTwice() {
+    PointerEvent event = pool.acquire();
+
+    event.release();
+    event.release();
+
+    assertEquals(1, pool.getAvailable());
+  }
+
+  @Test
+  public void keepsNoMoreIdleInstancesThanItsCapacity() {
+    EventPool<PointerEvent> small = EventPool.create(PointerEvent::new, 1);
+    PointerEvent first = small.acquire();
+    PointerEvent second = small.acquire();
+
+    first.release();
+    second.release();
+
+    assertEquals(1, small.getAvailable());
+  }
+
+  @Test
+  public void returnsFiredEventsToThePoolAfterDispatch() {
+    List<Integer> received = new ArrayList<>();
+    events.register(event -> received.add(((PointerEvent) event).x));
+    PointerEvent event = pool.acquire().setX(7);
+
+    events.firePooled(event);
+
+    assertEquals(List.of(7), received);
+    assertFalse(event.isPooled());
+    assertEquals(0, event.x);
+    assertEquals(1, pool.getAvailable());
+  }
+
+  @Test
+  public void retainedEventsOutliveTheDispatch() {
+    List<PointerEvent> retained = new ArrayList<>();
+    events.register(event -> retained.add(((PointerEvent) event).retain()));
+    PointerEvent event = pool.acquire().setX(7);
+    String id = event.getEventId();
+
+    events.firePooled(event);
+
+    PointerEvent copy = retained.get(0);
+    assertNotSame(event, copy);
+    assertEquals(7, copy.x);
+    assertEquals(id, copy.getEventId());
+    assertFalse(copy.isPooled());
+  }
+
+  @Test
+  public void retainingAnEventOutsideAPoolKeepsTheInstance() {
+    PointerEvent event = new PointerEvent().setX(7);
+
+    assertSame(event, event.retain());
+  }
+
+  @Test
+  public void lowPriorityListenersReceiveADetachedCopy() {
+    List<BrixEvent> received = new ArrayList<>();
+    events.register(received::add, EventPriority.LOW);
+    PointerEvent event = pool.acquire().setX(7);
+
+    events.firePooled(event);
+    scheduler.advance(VirtualEventScheduler.FRAME_INTERVAL);
+
+    assertEquals(1, received.size());
+    assertNotSame(event, received.get(0));
+    assertEquals(7, ((PointerEvent) received.get(0)).x);
+  }
+
+  private static class PointerEvent extends PooledEvent<PointerEvent> {
+    private int x;
+
+    private PointerEvent setX(int x) {
+      this.x = x;
+      return this;
+    }
+
+    @Override
+    protected void reset() {
+      x = 0;
+    }
+
+    @Override
+    protected PointerEvent copy() {
+      return new PointerEvent().setX(x);
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IdleEventQueueTest {
+
+  private SlowScheduler scheduler;
+  private IdleEventQueue queue;
+  private List<BrixEvent> received;
+  private List<Object> sources;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new SlowScheduler();
+    received = new ArrayList<>();
+    sources = new ArrayList<>();
+    queue =
+        new IdleEventQueue(
+            scheduler,
+            (source, event) -> {
+              scheduler.elapsed += 5;
+              sources.add(source);
+              received.add(event);
+            });
+  }
+
+  @Test
+  public void deliversWithTheirSourceWhenIdle() {
+    Object source = new Object();
+    SampleEvent first = new SampleEvent();
+    SampleEvent second = new SampleEvent();
+
+    queue.add(source, first);
+    queue.add(null, second);
+    assertTrue(received.isEmpty());
+
+    scheduler.runPending();
+    assertEquals(List.of(first, second), received);
+    assertSame(source, sources.get(0));
+    assertNull(sources.get(1));
+  }
+
+  @Test
+  public void drainsInSlicesWithinTheBudget() {
+    for (int i = 0; i < 3; i++) {
+      queue.add(null, new SampleEvent());
+    }
+
+    scheduler.runPending();
+
+    assertEquals(3, received.size());
+    assertEquals(3, scheduler.idleSlices);
+  }
+
+  @Test
+  public void flushDeliversThePendingEventsInTheCallerStack() {
+    queue.add(null, new SampleEvent());
+    queue.add(null, new SampleEvent());
+
+    queue.flush();
+    assertEquals(2, received.size());
+
+    scheduler.runPending();
+    assertEquals(2, received.size());
+  }
+
+  @Test
+  public void clearDropsThePendingEvents() {
+    queue.add(null, new SampleEvent());
+    queue.clear();
+
+    scheduler.runPending();
+
+    assertTrue(received.isEmpty());
+  }
+
+  private static class SlowScheduler extends VirtualEventScheduler {
+    private double elapsed = 0;
+    private int idleSlices = 0;
+
+    @Override
+    public void scheduleIdle(Runnable task) {
+      idleSlices++;
+      super.scheduleIdle(task);
+    }
+
+    @Override
+    public double now() {
+      return super.now() + elapsed;
+    }
+  }
+
+  private static class SampleEvent extends BrixEvent {}
+}
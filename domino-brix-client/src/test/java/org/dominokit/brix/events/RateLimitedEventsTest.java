@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitedEventsTest {
+
+  private VirtualEventScheduler scheduler;
+  private RateLimitedEvents events;
+  private List<BrixEvent> received;
+  private List<Object> sources;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new VirtualEventScheduler();
+    received = new ArrayList<>();
+    sources = new ArrayList<>();
+    events =
+        new RateLimitedEvents(
+            scheduler,
+            (source, event) -> {
+              sources.add(source);
+              received.add(event);
+            });
+  }
+
+  @Test
+  public void throttlesOnBothEdgesAndReopensTheWindowOnTrailingDeliveries() {
+    RateLimit limit = RateLimit.throttle(100);
+    SampleEvent first = new SampleEvent();
+    SampleEvent latest = new SampleEvent();
+    SampleEvent next = new SampleEvent();
+    SampleEvent afterWindow = new SampleEvent();
+
+    events.offer(limit, null, first);
+    scheduler.advance(10);
+    events.offer(limit, null, new SampleEvent());
+    scheduler.advance(40);
+    events.offer(limit, null, latest);
+    scheduler.advance(49);
+    assertEquals(List.of(first), received);
+
+    scheduler.advance(1);
+    assertEquals(List.of(first, latest), received);
+
+    scheduler.advance(50);
+    events.offer(limit, null, next);
+    scheduler.advance(50);
+    assertEquals(List.of(first, latest, next), received);
+
+    scheduler.advance(100);
+    events.offer(limit, null, afterWindow);
+    assertEquals(List.of(first, latest, next, afterWindow), received);
+  }
+
+  @Test
+  public void dropsEventsInsideALeadingThrottleWindow() {
+    RateLimit limit = RateLimit.throttle(100, RateLimitEdge.LEADING);
+    SampleEvent first = new SampleEvent();
+    SampleEvent afterWindow = new SampleEvent();
+
+    events.offer(limit, null, first);
+    scheduler.advance(50);
+    events.offer(limit, null, new SampleEvent());
+    scheduler.advance(50);
+    events.offer(limit, null, afterWindow);
+
+    assertEquals(List.of(first, afterWindow), received);
+    scheduler.advance(100);
+    assertEquals(List.of(first, afterWindow), received);
+  }
+
+  @Test
+  public void deliversTheLatestEventAtTheEndOfATrailingThrottleWindow() {
+    RateLimit limit = RateLimit.throttle(100, RateLimitEdge.TRAILING);
+    Object source = new Object();
+    SampleEvent latest = new SampleEvent();
+
+    events.offer(limit, null, new SampleEvent());
+    scheduler.advance(30);
+    events.offer(limit, source, latest);
+    assertTrue(received.isEmpty());
+
+    scheduler.advance(70);
+    assertEquals(List.of(latest), received);
+    assertEquals(List.of(source), sources);
+
+    scheduler.advance(200);
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  public void restartsTheDebounceDelayOnEveryEvent() {
+    RateLimit limit = RateLimit.debounce(100);
+    SampleEvent latest = new SampleEvent();
+
+    events.offer(limit, null, new SampleEvent());
+    scheduler.advance(50);
+    events.offer(limit, null, new SampleEvent());
+    scheduler.advance(90);
+    events.offer(limit, null, latest);
+    scheduler.advance(99);
+    assertTrue(received.isEmpty());
+
+    scheduler.advance(1);
+    assertEquals(List.of(latest), received);
+  }
+
+  @Test
+  public void deliversTheFirstEventOfALeadingDebounceBurstOnly() {
+    RateLimit limit = RateLimit.debounce(100, RateLimitEdge.LEADING);
+    SampleEvent first = new SampleEvent();
+    SampleEvent nextBurst = new SampleEvent();
+
+    events.offer(limit, null, first);
+    scheduler.advance(50);
+    events.offer(limit, null, new SampleEvent());
+    scheduler.advance(99);
+    events.offer(limit, null, new SampleEvent());
+    scheduler.advance(99);
+    assertEquals(List.of(first), received);
+
+    scheduler.advance(1);
+    events.offer(limit, null, nextBurst);
+    assertEquals(List.of(first, nextBurst), received);
+  }
+
+  @Test
+  public void limitsEachEventKeySeparately() {
+    RateLimit limit = RateLimit.throttle(100, RateLimitEdge.LEADING);
+    KeyedSampleEvent first = new KeyedSampleEvent("a");
+    KeyedSampleEvent other = new KeyedSampleEvent("b");
+
+    events.offer(limit, null, first);
+    events.offer(limit, null, other);
+    events.offer(limit, null, new KeyedSampleEvent("a"));
+
+    assertEquals(List.of(first, other), received);
+  }
+
+  @Test
+  public void clearDropsTheHeldEventsAndTheOpenWindows() {
+    RateLimit limit = RateLimit.throttle(100, RateLimitEdge.BOTH);
+    SampleEvent first = new SampleEvent();
+    SampleEvent afterClear = new SampleEvent();
+
+    events.offer(limit, null, first);
+    events.offer(limit, null, new SampleEvent());
+    events.clear();
+    events.offer(limit, null, afterClear);
+    scheduler.advance(100);
+
+    assertEquals(List.of(first, afterClear), received);
+  }
+
+  private static class SampleEvent extends BrixEvent {}
+
+  private static class KeyedSampleEvent extends BrixEvent implements KeyedEvent {
+    private final String key;
+
+    private KeyedSampleEvent(String key) {
+      this.key = key;
+    }
+
+    @Override
+    public Object getEventKey() {
+      return key;
+    }
+  }
+}
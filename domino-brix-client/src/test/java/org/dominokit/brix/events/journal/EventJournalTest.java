@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.EventCodec;
+import org.dominokit.brix.events.EventCodecException;
+import org.dominokit.brix.events.VirtualEventScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EventJournalTest {
+
+  private VirtualEventScheduler scheduler;
+  private BrixEvents events;
+  private EventJournal journal;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new VirtualEventScheduler();
+    events = new BrixEvents(scheduler);
+    journal = new EventJournal(events, null).start();
+  }
+
+  @Test
+  public void recordsEventsFiredOnTheBus() {
+    SampleEvent event = new SampleEvent("one");
+
+    events.fireEvent(event);
+
+    List<JournalEntry> entries = journal.getEntries();
+    assertEquals(1, entries.size());
+    assertSame(event, entries.get(0).getEvent().orElse(null));
+  }
+
+  @Test
+  public void recordsEventsFiredOnChildBuses() {
+    BrixEvents child = events.createChild();
+
+    child.fireEvent(new SampleEvent("one"));
+    child.createChild().fireEvent(new SampleEvent("two"));
+
+    assertEquals(2, journal.getEntries().size());
+  }
+
+  @Test
+  public void recordsPropagatedEventsOnce() {
+    events.createChild().fireAndPropagate(new SampleEvent("one"));
+
+    assertEquals(1, journal.getEntries().size());
+  }
+
+  @Test
+  public void recordsDeferredEventsWhenDelivered() {
+    events.fireDeferred(new SampleEvent("one"));
+    assertEquals(0, journal.getEntries().size());
+
+    scheduler.runPending();
+    assertEquals(1, journal.getEntries().size());
+  }
+
+  @Test
+  public void stopsRecording() {
+    journal.stop();
+
+    events.fireEvent(new SampleEvent("one"));
+
+    assertFalse(journal.isStarted());
+    assertEquals(0, journal.getEntries().size());
+  }
+
+  @Test
+  public void keepsTheLatestEntriesWhenFull() {
+    EventJournal bounded = new EventJournal(events, null, 2, scheduler).start();
+
+    events.fireEvent(new SampleEvent("one"));
+    events.fireEvent(new SampleEvent("two"));
+    events.fireEvent(new SampleEvent("three"));
+
+    List<JournalEntry> entries = bounded.getEntries();
+    assertEquals(2, entries.size());
+    assertEquals("two", entries.get(0).getSummary());
+    assertEquals("three", entries.get(1).getSummary());
+  }
+
+  @Test
+  public void exportsEntriesThatCanBeParsedBack() {
+    journal.codec(SampleEvent.class, "sample", new SampleCodec());
+    events.fireEvent(new SampleEvent("one"));
+    scheduler.advance(10);
+    events.fireEvent(new SampleEvent("two|2"));
+
+    List<JournalEntry> parsed = EventJournal.parse(journal.export());
+
+    assertEquals(2, parsed.size());
+    assertEquals("sample", parsed.get(1).getType());
+    assertEquals("two|2", parsed.get(1).getPayload().orElse(null));
+    assertEquals(10, parsed.get(1).getTime() - parsed.get(0).getTime());
+    assertFalse(parsed.get(0).getEvent().isPresent());
+  }
+
+  @Test
+  public void rejectsMalformedExports() {
+    events.fireEvent(new SampleEvent("one"));
+    String exported = journal.export();
+
+    assertThrows(
+        EventCodecException.class,
+        () -> EventJournal.parse(exported.substring(0, exported.length() - 1)));
+    assertThrows(
+        EventCodecException.class, () -> EventJournal.parse(exported.replace("EVENT", "OTHER")));
+  }
+
+  static class SampleEvent extends BrixEvent {
+    private final String value;
+
+    SampleEvent(String value) {
+      this.value = value;
+    }
+
+    String getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return value;
+    }
+  }
+
+  static class SampleCodec implements EventCodec<SampleEvent> {
+    @Override
+    public String encode(SampleEvent event) {
+      return event.getValue();
+    }
+
+    @Override
+    public SampleEvent decode(String payload) {
+      return new SampleEvent(payload);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.VirtualEventScheduler;
+import org.dominokit.brix.events.journal.EventJournalTest.SampleCodec;
+import org.dominokit.brix.events.journal.EventJournalTest.SampleEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReplayDriverTest {
+
+  private VirtualEventScheduler scheduler;
+  private BrixEvents target;
+  private List<String> replayed;
+  private List<JournalEntry> entries;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new VirtualEventScheduler();
+    BrixEvents recorded = new BrixEvents(scheduler);
+    EventJournal journal =
+        new EventJournal(recorded, null).codec(SampleEvent.class, "sample", new SampleCodec());
+    journal.start();
+    recorded.fireEvent(new SampleEvent("one"));
+    scheduler.advance(100);
+    recorded.fireEvent(new SampleEvent("two"));
+    scheduler.advance(100);
+    recorded.fireEvent(new SampleEvent("three"));
+    entries = EventJournal.parse(journal.export());
+
+    target = new BrixEvents(scheduler);
+    replayed = new ArrayList<>();
+    target.register(event -> replayed.add(((SampleEvent) event).getValue()));
+  }
+
+  @Test
+  public void replaysAllEntriesAtMaximumSpeed() {
+    boolean[] completed = {false};
+
+    driver().replay(ReplaySpeed.MAXIMUM, () -> completed[0] = true);
+
+    assertEquals(List.of("one", "two", "three"), replayed);
+    assertTrue(completed[0]);
+  }
+
+  @Test
+  public void keepsTheRecordedDelays() {
+    ReplayDriver driver = driver();
+
+    driver.replay(ReplaySpeed.RECORDED, () -> {});
+    assertEquals(List.of("one"), replayed);
+
+    scheduler.advance(99);
+    assertEquals(List.of("one"), replayed);
+
+    scheduler.advance(1);
+    assertEquals(List.of("one", "two"), replayed);
+
+    scheduler.advance(100);
+    assertEquals(List.of("one", "two", "three"), replayed);
+    assertFalse(driver.isRunning());
+  }
+
+  @Test
+  public void ignoresTheScheduledStepOfACancelledReplay() {
+    ReplayDriver driver = driver();
+    driver.replay(ReplaySpeed.RECORDED, () -> {});
+    scheduler.advance(50);
+
+    driver.cancel();
+    driver.replay(ReplaySpeed.RECORDED, () -> {});
+    scheduler.advance(50);
+    assertEquals(List.of("one", "one"), replayed);
+
+    scheduler.advance(50);
+    assertEquals(List.of("one", "one", "two"), replayed);
+
+    scheduler.advance(100);
+    assertEquals(List.of("one", "one", "two", "three"), replayed);
+  }
+
+  @Test
+  public void doesNotFireAfterCancel() {
+    ReplayDriver driver = driver();
+    driver.replay(ReplaySpeed.RECORDED, () -> {});
+
+    driver.cancel();
+    scheduler.advance(1000);
+
+    assertEquals(List.of("one"), replayed);
+  }
+
+  @Test
+  public void skipsEntriesWithoutCodec() {
+    new ReplayDriver(entries, target, null).replay(ReplaySpeed.MAXIMUM, () -> {});
+
+    assertTrue(replayed.isEmpty());
+  }
+
+  private ReplayDriver driver() {
+    return new ReplayDriver(entries, target, null).codec("sample", new SampleCodec());
+  }
+}
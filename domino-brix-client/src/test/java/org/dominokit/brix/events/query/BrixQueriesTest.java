@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.VirtualEventScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BrixQueriesTest {
+
+  private VirtualEventScheduler scheduler;
+  private BrixEvents events;
+  private BrixQueries queries;
+  private List<QueryCallback<String>> requests;
+  private List<String> received;
+  private List<Throwable> failures;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new VirtualEventScheduler();
+    events = new BrixEvents(scheduler);
+    queries = new BrixQueries(events);
+    requests = new ArrayList<>();
+    received = new ArrayList<>();
+    failures = new ArrayList<>();
+  }
+
+  @Test
+  public void cachesResultsUntilTheTtlExpires() {
+    queries.provide(UserQuery.class, this::answerNow).ttl(100);
+
+    ask("a");
+    scheduler.advance(99);
+    ask("a");
+    assertEquals(1, requests.size());
+
+    scheduler.advance(1);
+    ask("a");
+    assertEquals(2, requests.size());
+    assertEquals(List.of("user-a", "user-a", "user-a"), received);
+  }
+
+  @Test
+  public void sharesInFlightRequestsOfTheSameKey() {
+    queries.provide(UserQuery.class, (query, callback) -> requests.add(callback));
+
+    ask("a");
+    ask("a");
+    ask("b");
+    assertEquals(2, requests.size());
+
+    requests.get(0).onSuccess("user-a");
+    assertEquals(List.of("user-a", "user-a"), received);
+  }
+
+  @Test
+  public void doesNotCacheResultsInvalidatedWhileInFlight() {
+    queries.provide(UserQuery.class, (query, callback) -> requests.add(callback));
+
+    ask("a");
+    queries.invalidate(UserQuery.class);
+    requests.get(0).onSuccess("stale");
+    ask("a");
+
+    assertEquals(List.of("stale"), received);
+    assertEquals(2, requests.size());
+  }
+
+  @Test
+  public void keepsTheNewerRequestWhenAnInvalidatedOneCompletes() {
+    queries.provide(UserQuery.class, (query, callback) -> requests.add(callback));
+
+    ask("a");
+    queries.invalidate(UserQuery.class, "a");
+    ask("a");
+    requests.get(0).onSuccess("stale");
+    requests.get(1).onSuccess("fresh");
+    ask("a");
+
+    assertEquals(List.of("stale", "fresh", "fresh"), received);
+    assertEquals(2, requests.size());
+  }
+
+  @Test
+  public void invalidatesResultsWhenAnInvalidatingEventIsFired() {
+    queries.provide(UserQuery.class, this::answerNow).invalidateOn(UserChangedEvent.class);
+
+    ask("a");
+    ask("b");
+    events.fireEvent(new UserChangedEvent("a"));
+    ask("a");
+    ask("b");
+
+    assertEquals(4, requests.size());
+  }
+
+  @Test
+  public void invalidatesTheKeyOfTheFiredEvent() {
+    queries
+        .provide(UserQuery.class, this::answerNow)
+        .invalidateOn(UserChangedEvent.class, event -> event.id);
+
+    ask("a");
+    ask("b");
+    events.fireEvent(new UserChangedEvent("a"));
+    ask("a");
+    ask("b");
+
+    assertEquals(3, requests.size());
+  }
+
+  @Test
+  public void doesNotCacheFailures() {
+    queries.provide(UserQuery.class, (query, callback) -> requests.add(callback));
+
+    ask("a");
+    requests.get(0).onFailure(new IllegalStateException("offline"));
+    ask("a");
+
+    assertEquals(1, failures.size());
+    assertEquals(2, requests.size());
+  }
+
+  @Test
+  public void failsQueriesWithoutAProvider() {
+    ask("a");
+
+    assertEquals(1, failures.size());
+    assertTrue(received.isEmpty());
+  }
+
+  private void answerNow(UserQuery query, QueryCallback<String> callback) {
+    requests.add(callback);
+    callback.onSuccess("user-" + query.id);
+  }
+
+  private void ask(String id) {
+    queries.ask(new UserQuery(id), received::add, failures::add);
+  }
+
+  private static class UserQuery implements BrixQuery<String> {
+    private final String id;
+
+    private UserQuery(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public Object getQueryKey() {
+      return id;
+    }
+  }
+
+  private static class UserChangedEvent extends BrixEvent {
+    private final String id;
+
+    private UserChangedEvent(String id) {
+      this.id = id;
+    }
+  }
+}
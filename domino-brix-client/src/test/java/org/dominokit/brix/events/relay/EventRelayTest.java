@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.relay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.EventCodec;
+import org.dominokit.brix.events.EventCodecException;
+import org.dominokit.brix.events.Frames;
+import org.dominokit.brix.events.RateLimit;
+import org.dominokit.brix.events.RateLimits;
+import org.dominokit.brix.events.VirtualEventScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EventRelayTest {
+
+  private VirtualEventScheduler scheduler;
+  private InMemoryRelayTransport.Hub hub;
+  private BrixEvents first;
+  private BrixEvents second;
+  private List<String> firstReceived;
+  private List<String> secondReceived;
+
+  @BeforeEach
+  public void setUp() {
+    scheduler = new VirtualEventScheduler();
+    hub = new InMemoryRelayTransport.Hub();
+    first = new BrixEvents(scheduler);
+    second = new BrixEvents(scheduler);
+    new EventRelay(first, hub.createTransport())
+        .relay(ValueEvent.class, "value", new ValueCodec())
+        .start();
+    new EventRelay(second, hub.createTransport())
+        .relay(ValueEvent.class, "value", new ValueCodec())
+        .start();
+    firstReceived = new ArrayList<>();
+    secondReceived = new ArrayList<>();
+    first.register(event -> firstReceived.add(((ValueEvent) event).value));
+    second.register(event -> secondReceived.add(((ValueEvent) event).value));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    RateLimits.register(ValueEvent.class, null);
+  }
+
+  @Test
+  public void relaysEventsToOtherTabs() {
+    first.fireEvent(new ValueEvent("one"));
+    scheduler.runPending();
+
+    assertEquals(List.of("one"), firstReceived);
+    assertEquals(List.of("one"), secondReceived);
+  }
+
+  @Test
+  public void doesNotSendDebouncedEventsBack() {
+    RateLimits.register(ValueEvent.class, RateLimit.debounce(100));
+
+    first.fireEvent(new ValueEvent("one"));
+    first.fireEvent(new ValueEvent("two"));
+    scheduler.advance(1000);
+
+    assertEquals(List.of("two"), firstReceived);
+    assertEquals(List.of("two"), secondReceived);
+  }
+
+  @Test
+  public void doesNotSendThrottledEventsBack() {
+    RateLimits.register(ValueEvent.class, RateLimit.throttle(100));
+
+    first.fireEvent(new ValueEvent("one"));
+    first.fireEvent(new ValueEvent("two"));
+    first.fireEvent(new ValueEvent("three"));
+    scheduler.advance(1000);
+
+    assertEquals(List.of("one", "three"), firstReceived);
+    assertEquals(List.of("one", "three"), secondReceived);
+  }
+
+  @Test
+  public void skipsMessagesAndEventsThatCannotBeDecoded() {
+    InMemoryRelayTransport transport = hub.createTransport();
+    StringBuilder message = new StringBuilder();
+    Frames.append(message, "value");
+    Frames.append(message, ValueCodec.INVALID);
+    Frames.append(message, "value");
+    Frames.append(message, "valid");
+
+    transport.send("12:truncated");
+    transport.send(message.toString());
+
+    assertEquals(List.of("valid"), firstReceived);
+    assertEquals(List.of("valid"), secondReceived);
+  }
+
+  static class ValueEvent extends BrixEvent {
+    private final String value;
+
+    ValueEvent(String value) {
+      this.value = value;
+    }
+  }
+
+  static class ValueCodec implements EventCodec<ValueEvent> {
+    static final String INVALID = "invalid";
+
+    @Override
+    public String encode(ValueEvent event) {
+      return event.value;
+    }
+
+    @Override
+    public ValueEvent decode(String payload) {
+      if (INVALID.equals(payload)) {
+        throw new EventCodecException("Invalid value.");
+      }
+      return new ValueEvent(payload);
+    }
+  }
+}
@@ -21,15 +21,32 @@ package org.dominokit.brix.processor;
 
 import com.google.auto.common.BasicAnnotationProcessor;
 import com.google.auto.service.AutoService;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 
 @AutoService(Processor.class)
 public class DominoBrixProcessor extends BasicAnnotationProcessor {
+
+  private DominoBrixProcessorStep brixStep;
+
   @Override
   protected Iterable<? extends Step> steps() {
-    return Collections.singletonList(new DominoBrixProcessorStep(processingEnv));
+    brixStep = new DominoBrixProcessorStep(processingEnv);
+    return Arrays.asList(brixStep, new EventCodecProcessorStep(processingEnv));
+  }
+
+  @Override
+  protected void postRound(RoundEnvironment roundEnv) {
+    brixStep.writeRouteTable(roundEnv.processingOver());
+  }
+
+  @Override
+  public Set<String> getSupportedOptions() {
+    return Collections.singleton(RouteTableGenerator.PACKAGE_OPTION);
   }
 
   @Override
@@ -20,6 +20,7 @@
 
 package org.dominokit.brix.processor;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import com.google.auto.common.BasicAnnotationProcessor;
@@ -35,17 +36,24 @@ import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 import dagger.Binds;
 import dagger.Lazy;
 import dagger.Module;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.PostConstruct;
@@ -63,6 +71,7 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
@@ -90,12 +99,15 @@ import org.dominokit.brix.api.ChildPresenter;
 import org.dominokit.brix.api.ChildPresenterRouting;
 import org.dominokit.brix.api.Presenter;
 import org.dominokit.brix.api.PresenterProvider;
+import org.dominokit.brix.api.RouteBinding;
+import org.dominokit.brix.api.RouteLoader;
 import org.dominokit.brix.api.RouterManager;
 import org.dominokit.brix.api.RoutingProvider;
 import org.dominokit.brix.api.Slot;
 import org.dominokit.brix.api.UiHandlers;
 import org.dominokit.brix.api.Viewable;
 import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.EventTypeIndex;
 import org.dominokit.brix.security.Authorizer;
 import org.dominokit.brix.security.DenyAllAuthorizer;
 import org.dominokit.brix.security.PermitAllAuthorizer;
@@ -103,12 +115,23 @@ import org.dominokit.brix.security.RolesAllowedAuthorizer;
 
 public class DominoBrixProcessorStep implements BasicAnnotationProcessor.Step, HasProcessorEnv {
 
+  private static final ClassName GWT = ClassName.get("com.google.gwt.core.client", "GWT");
+  private static final ClassName RUN_ASYNC_CALLBACK =
+      ClassName.get("com.google.gwt.core.client", "RunAsyncCallback");
+
   private final ProcessingEnvironment processingEnv;
   private final SourceUtil sourceUtil;
+  private final RouteTableGenerator routeTable;
 
   public DominoBrixProcessorStep(ProcessingEnvironment processingEnv) {
     this.processingEnv = processingEnv;
     this.sourceUtil = new SourceUtil(this);
+    this.routeTable =
+        new RouteTableGenerator(
+            this,
+            sourceUtil,
+            processingEnv.getFiler(),
+            processingEnv.getOptions().get(RouteTableGenerator.PACKAGE_OPTION));
   }
 
   @Override
@@ -133,6 +156,15 @@ public class DominoBrixProcessorStep implements BasicAnnotationProcessor.Step, H
     return Sets.newHashSet();
   }
 
+  /**
+   * Writes the route table once the rounds stop bringing new routed presenters.
+   *
+   * @param processingOver whether this is the last processing round
+   */
+  public void writeRouteTable(boolean processingOver) {
+    routeTable.generate(processingOver);
+  }
+
   private void processModule(ImmutableSetMultimap<String, Element> elementsByAnnotation) {
 
     elementsByAnnotation
@@ -183,6 +215,7 @@ public class DominoBrixProcessorStep implements BasicAnnotationProcessor.Step, H
               Optional<TypeSpec.Builder> routingSpec = generateRoutingClass(presenter);
               routingSpec.ifPresent(builder -> writeFile(builder.build(), presenter));
             });
+    routeTable.collect(elementsByAnnotation.get(BrixPresenter.class.getCanonicalName()));
 
     elementsByAnnotation.get(UiView.class.getCanonicalName()).stream()
         .filter(e -> ElementKind.FIELD != e.getKind())
@@ -221,6 +254,9 @@ public class DominoBrixProcessorStep implements BasicAnnotationProcessor.Step, H
             .addModifiers(Modifier.PUBLIC)
             .returns(TypeName.VOID);
 
+    ClassName serviceName =
+        guessName(brixComponent, presenterElement.getSimpleName().toString() + "ComponentService_");
+    CodeBlock binding;
     boolean childPresenter =
         sourceUtil.isAssignableFrom(ChildPresenter.class, presenterElement.asType());
     if (childPresenter) {
@@ -235,21 +271,30 @@ public class DominoBrixProcessorStep implements BasicAnnotationProcessor.Step, H
                 brixComponent);
       }
 
+      binding =
+          CodeBlock.of(
+              "$T.PROVIDER, $T.PROVIDER",
+              TypeName.get(brixComponent.asType()),
+              TypeName.get(parentType.get()));
+    } else {
+      binding = CodeBlock.of("$T.PROVIDER", TypeName.get(brixComponent.asType()));
+    }
+
+    if (isSplitPoint(brixComponent)) {
       initMethod.addStatement(
-          "$T.initRoute(new $T(), $T.PROVIDER, $T.PROVIDER)",
+          "$T.initAsyncRoute($L, $L)",
           RouterManager.class,
-          getPresenterRouter(presenterElement),
-          TypeName.get(brixComponent.asType()),
-          TypeName.get(parentType.get()));
+          getPresenterRoute(presenterElement),
+          generateSplitPoint(serviceName, binding));
     } else {
       initMethod.addStatement(
-          "$T.initRoute(new $T(), $T.PROVIDER)",
+          "$T.initRoute($L, $L)",
           RouterManager.class,
-          getPresenterRouter(presenterElement),
-          TypeName.get(brixComponent.asType()));
+          getPresenterRoute(presenterElement),
+          binding);
     }
 
-    return TypeSpec.classBuilder(presenterElement.getSimpleName().toString() + "ComponentService_")
+    return TypeSpec.classBuilder(serviceName)
         .addAnnotation(
             AnnotationSpec.builder(com.google.auto.service.AutoService.class)
                 .addMember("value", "$T.class", BrixComponentInitializer.class)
@@ -259,6 +304,64 @@ public class DominoBrixProcessorStep implements BasicAnnotationProcessor.Step, H
         .addMethod(initMethod.build());
   }
 
+  private boolean isSplitPoint(Element brixComponent) {
+    BrixComponent component = sourceUtil.findClassAnnotation(brixComponent, BrixComponent.class);
+    if (!component.splitPoint()) {
+      return false;
+    }
+    if (isNull(elements().getTypeElement(GWT.canonicalName()))) {
+      messager()
+          .printMessage(
+              Diagnostic.Kind.WARNING,
+              "splitPoint is ignored, GWT is not on the compile classpath",
+              brixComponent);
+      return false;
+    }
+    return true;
+  }
+
+  private TypeSpec generateSplitPoint(ClassName serviceName, CodeBlock binding) {
+    return TypeSpec.anonymousClassBuilder("")
+        .addSuperinterface(RouteLoader.class)
+        .addMethod(
+            MethodSpec.methodBuilder("load")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(
+                    ParameterizedTypeName.get(Consumer.class, RouteBinding.class), "onLoaded")
+                .addParameter(
+                    ParameterizedTypeName.get(Consumer.class, Throwable.class), "onFailure")
+                .addStatement(
+                    "$T.runAsync($T.class, $L)",
+                    GWT,
+                    serviceName,
+                    TypeSpec.anonymousClassBuilder("")
+                        .addSuperinterface(RUN_ASYNC_CALLBACK)
+                        .addMethod(
+                            MethodSpec.methodBuilder("onFailure")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PUBLIC)
+                                .addParameter(Throwable.class, "reason")
+                                .addStatement("onFailure.accept(reason)")
+                                .build())
+                        .addMethod(
+                            MethodSpec.methodBuilder("onSuccess")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PUBLIC)
+                                .addStatement(
+                                    "onLoaded.accept($T.binding($L))", RouterManager.class, binding)
+                                .build())
+                        .build())
+                .build())
+        .build();
+  }
+
+  private CodeBlock getPresenterRoute(Element presenterElement) {
+    return routeTable
+        .routeOf(presenterElement)
+        .orElseGet(() -> CodeBlock.of("new $T()", getPresenterRouter(presenterElement)));
+  }
+
   private ClassName getPresenterRouter(Element presenterElement) {
 
     Optional<TypeMirror> router =
@@ -636,33 +739,135 @@ public class DominoBrixProcessorStep implements BasicAnnotationProcessor.Step, H
 
   private void generateEventsMethod(Element presenter, TypeSpec.Builder presenterBuilder) {
     List<Element> methods = sourceUtil.getAnnotatedMethods(presenter.asType(), ListenFor.class);
-    if (nonNull(methods) && !methods.isEmpty()) {
+    Map<String, TypeMirror> eventTypes = new LinkedHashMap<>();
+    Map<String, List<Element>> eventHandlers = new HashMap<>();
+    if (nonNull(methods)) {
+      methods.forEach(
+          element ->
+              sourceUtil
+                  .getClassValueFromAnnotation(element, ListenFor.class, "value")
+                  .ifPresent(
+                      typeMirror -> {
+                        eventTypes.putIfAbsent(typeMirror.toString(), typeMirror);
+                        eventHandlers
+                            .computeIfAbsent(typeMirror.toString(), key -> new ArrayList<>())
+                            .add(element);
+                      }));
+    }
+
+    generateEventTypesMethod(presenter, presenterBuilder, !eventTypes.isEmpty());
+    if (!eventTypes.isEmpty()) {
+      CodeBlock.Builder eventTypesIndex =
+          CodeBlock.builder().add("$T.builder()", EventTypeIndex.class).indent();
+      eventTypes
+          .values()
+          .forEach(
+              type -> {
+                if (!isEventSupertype(type)
+                    && !sourceUtil.isAssignableFrom(BrixEvent.class, type)) {
+                  messager()
+                      .printMessage(
+                          Diagnostic.Kind.ERROR,
+                          "@ListenFor type ["
+                              + type
+                              + "] must be a BrixEvent, an abstract event class or an interface.",
+                          presenter);
+                }
+                eventTypesIndex.add("\n.type($T.class)", types().erasure(type));
+              });
+      eventTypesIndex.add("\n.build()").unindent();
+
+      presenterBuilder.addField(
+          FieldSpec.builder(
+                  EventTypeIndex.class,
+                  "EVENT_TYPES",
+                  Modifier.PRIVATE,
+                  Modifier.STATIC,
+                  Modifier.FINAL)
+              .initializer(eventTypesIndex.build())
+              .build());
+
       MethodSpec.Builder builder =
           MethodSpec.methodBuilder("onEventReceived")
               .addAnnotation(Override.class)
               .addModifiers(Modifier.PUBLIC)
               .returns(TypeName.VOID)
-              .addParameter(ParameterSpec.builder(TypeName.get(BrixEvent.class), "event").build());
-      if (!methods.isEmpty()) {
-        builder.addStatement("super.onEventReceived(event)");
+              .addParameter(ParameterSpec.builder(TypeName.get(BrixEvent.class), "event").build())
+              .addStatement("super.onEventReceived(event)")
+              .beginControlFlow("for (int eventType : EVENT_TYPES.indexesOf(event))")
+              .beginControlFlow("switch (eventType)");
+
+      int eventTypeId = 0;
+      for (Map.Entry<String, TypeMirror> eventType : eventTypes.entrySet()) {
+        builder.addCode("case $L:\n$>", eventTypeId++);
+        eventHandlers
+            .get(eventType.getKey())
+            .forEach(
+                element ->
+                    builder.addStatement(
+                        "$L(($T) event)",
+                        element.getSimpleName().toString(),
+                        eventType.getValue()));
+        builder.addStatement("break").addCode("$<");
       }
-      methods.forEach(
-          element -> {
-            Optional<TypeMirror> eventType =
-                sourceUtil.getClassValueFromAnnotation(element, ListenFor.class, "value");
-            eventType.ifPresent(
-                typeMirror -> {
-                  CodeBlock.Builder code = CodeBlock.builder();
-                  code.beginControlFlow("if(event.isSameType($T.class))", typeMirror);
-                  code.add("$L(($T)event);\n", element.getSimpleName().toString(), typeMirror);
-                  code.endControlFlow();
-                  builder.addStatement(code.build());
-                });
-          });
+      builder.endControlFlow().endControlFlow();
       presenterBuilder.addMethod(builder.build());
     }
   }
 
+  private boolean isEventSupertype(TypeMirror type) {
+    Element element = types().asElement(type);
+    return ElementKind.INTERFACE == element.getKind()
+        || element.getModifiers().contains(Modifier.ABSTRACT);
+  }
+
+  private void generateEventTypesMethod(
+      Element presenter, TypeSpec.Builder presenterBuilder, boolean hasEventTypes) {
+    // presenters overriding onEventReceived themselves keep receiving every event.
+    if (overridesEventReceived((TypeElement) presenter)) {
+      return;
+    }
+    MethodSpec.Builder method =
+        MethodSpec.methodBuilder("getEventTypes")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Set.class),
+                    ParameterizedTypeName.get(
+                        ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class))));
+    if (hasEventTypes) {
+      method.addStatement("return EVENT_TYPES.getTypes()");
+    } else {
+      method.addStatement("return $T.emptySet()", Collections.class);
+    }
+    presenterBuilder.addMethod(method.build());
+  }
+
+  private boolean overridesEventReceived(TypeElement presenter) {
+    TypeElement current = presenter;
+    while (nonNull(current)
+        && !current.getQualifiedName().contentEquals(Presenter.class.getCanonicalName())) {
+      boolean declared =
+          current.getEnclosedElements().stream()
+              .filter(element -> ElementKind.METHOD == element.getKind())
+              .map(element -> (ExecutableElement) element)
+              .anyMatch(
+                  method ->
+                      method.getSimpleName().contentEquals("onEventReceived")
+                          && method.getParameters().size() == 1);
+      if (declared) {
+        return true;
+      }
+      TypeMirror superclass = current.getSuperclass();
+      current =
+          superclass.getKind() == TypeKind.NONE
+              ? null
+              : (TypeElement) types().asElement(superclass);
+    }
+    return false;
+  }
+
   private void generateStateMethod(Element presenter, TypeSpec.Builder presenterBuilder) {
     List<Element> pathParameters =
         sourceUtil.getAnnotatedFields(presenter.asType(), PathParameter.class);
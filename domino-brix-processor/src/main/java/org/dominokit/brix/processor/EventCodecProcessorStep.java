@@ -0,0 +1,404 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.processor;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.google.auto.common.BasicAnnotationProcessor;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Sets;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import org.dominokit.brix.annotations.GenerateCodec;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.CompactReader;
+import org.dominokit.brix.events.CompactWriter;
+import org.dominokit.brix.events.EventCodec;
+
+/**
+ * Generates the {@code <Type>_Codec} classes of types annotated with {@link GenerateCodec}. Values
+ * are written positionally in the order of the constructor parameters and read back by calling the
+ * same constructor, so codecs need neither reflection nor intermediate maps.
+ */
+public class EventCodecProcessorStep implements BasicAnnotationProcessor.Step, HasProcessorEnv {
+
+  private final ProcessingEnvironment processingEnv;
+  private final SourceUtil sourceUtil;
+
+  public EventCodecProcessorStep(ProcessingEnvironment processingEnv) {
+    this.processingEnv = processingEnv;
+    this.sourceUtil = new SourceUtil(this);
+  }
+
+  @Override
+  public Set<String> annotations() {
+    return Collections.singleton(GenerateCodec.class.getCanonicalName());
+  }
+
+  @Override
+  public Set<? extends Element> process(
+      ImmutableSetMultimap<String, Element> elementsByAnnotation) {
+    try {
+      elementsByAnnotation
+          .get(GenerateCodec.class.getCanonicalName())
+          .forEach(element -> generateCodec((TypeElement) element));
+    } catch (Exception e) {
+      SourceUtil.errorStackTrace(messager(), e);
+    }
+    return Sets.newHashSet();
+  }
+
+  private void generateCodec(TypeElement type) {
+    if (ElementKind.CLASS != type.getKind() || type.getModifiers().contains(Modifier.ABSTRACT)) {
+      error("@GenerateCodec type [" + type + "] must be a concrete class.", type);
+      return;
+    }
+    Optional<ExecutableElement> constructor = codecConstructor(type);
+    if (!constructor.isPresent()) {
+      error("@GenerateCodec type [" + type + "] has no accessible constructor.", type);
+      return;
+    }
+
+    TypeName valueType = TypeName.get(types().erasure(type.asType()));
+    ClassName codecName = codecName(type);
+    boolean event = sourceUtil.isAssignableFrom(BrixEvent.class, type.asType());
+
+    CodeBlock.Builder write = CodeBlock.builder();
+    CodeBlock.Builder read = CodeBlock.builder().add("return new $T(", valueType).indent();
+    List<? extends VariableElement> parameters = constructor.get().getParameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      VariableElement parameter = parameters.get(i);
+      Optional<String> accessor = accessor(type, parameter);
+      if (!accessor.isPresent()) {
+        error(
+            "@GenerateCodec type ["
+                + type
+                + "] has no getter, accessor or field for constructor parameter ["
+                + parameter.getSimpleName()
+                + "].",
+            type);
+        return;
+      }
+      TypeMirror parameterType = parameter.asType();
+      if (!isSupported(parameterType)) {
+        error(
+            "@GenerateCodec type ["
+                + type
+                + "] parameter ["
+                + parameter.getSimpleName()
+                + "] has unsupported type ["
+                + parameterType
+                + "].",
+            type);
+        return;
+      }
+      write.add(writeValue(parameterType, "value." + accessor.get(), "writer", 0));
+      read.add(i == 0 ? "\n" : ",\n").add(readValue(parameterType, "reader", 0));
+    }
+    read.add(")").unindent();
+
+    TypeSpec.Builder codec =
+        TypeSpec.classBuilder(codecName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addJavadoc("Generated codec of {@link $T}.\n", valueType)
+            .addField(
+                FieldSpec.builder(
+                        codecName, "INSTANCE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T()", codecName)
+                    .build())
+            .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+
+    MethodSpec.Builder encode =
+        MethodSpec.methodBuilder("encode")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(String.class)
+            .addParameter(valueType, "value")
+            .addStatement("$T writer = new $T()", CompactWriter.class, CompactWriter.class)
+            .addStatement("write(writer, value)")
+            .addStatement("return writer.toString()");
+    MethodSpec.Builder decode =
+        MethodSpec.methodBuilder("decode")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(valueType)
+            .addParameter(String.class, "payload")
+            .addStatement("return $T.decode(payload, $T::read)", CompactReader.class, codecName);
+    if (event) {
+      codec.addSuperinterface(
+          ParameterizedTypeName.get(ClassName.get(EventCodec.class), valueType));
+      encode.addAnnotation(Override.class);
+      decode.addAnnotation(Override.class);
+    }
+    codec
+        .addMethod(encode.build())
+        .addMethod(decode.build())
+        .addMethod(
+            MethodSpec.methodBuilder("write")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(CompactWriter.class, "writer")
+                .addParameter(valueType, "value")
+                .addCode(write.build())
+                .build())
+        .addMethod(
+            MethodSpec.methodBuilder("read")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(valueType)
+                .addParameter(CompactReader.class, "reader")
+                .addCode(read.add(";\n").build())
+                .build());
+
+    writeFile(codec.build(), type);
+  }
+
+  private Optional<ExecutableElement> codecConstructor(TypeElement type) {
+    ExecutableElement selected = null;
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (!constructor.getModifiers().contains(Modifier.PRIVATE)
+          && (isNull(selected)
+              || constructor.getParameters().size() > selected.getParameters().size())) {
+        selected = constructor;
+      }
+    }
+    return Optional.ofNullable(selected);
+  }
+
+  private Optional<String> accessor(TypeElement type, VariableElement parameter) {
+    String name = parameter.getSimpleName().toString();
+    String capitalized = sourceUtil.capitalizeFirstLetter(name);
+    List<? extends Element> members = elements().getAllMembers(type);
+    for (String candidate : new String[] {"get" + capitalized, "is" + capitalized, name}) {
+      for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+        if (method.getSimpleName().contentEquals(candidate)
+            && method.getParameters().isEmpty()
+            && !method.getModifiers().contains(Modifier.PRIVATE)
+            && types().isSameType(method.getReturnType(), parameter.asType())) {
+          return Optional.of(candidate + "()");
+        }
+      }
+    }
+    for (VariableElement field : ElementFilter.fieldsIn(members)) {
+      if (field.getSimpleName().contentEquals(name)
+          && !field.getModifiers().contains(Modifier.PRIVATE)) {
+        return Optional.of(name);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private boolean isSupported(TypeMirror type) {
+    if (type.getKind().isPrimitive() || isBoxed(type) || isString(type) || isEnum(type)) {
+      return true;
+    }
+    Optional<TypeMirror> item = listItem(type);
+    if (item.isPresent()) {
+      return isSupported(item.get());
+    }
+    return isCodecType(type);
+  }
+
+  private CodeBlock writeValue(TypeMirror type, String value, String writer, int depth) {
+    if (type.getKind().isPrimitive()) {
+      return CodeBlock.of("$L.$L($L);\n", writer, primitiveWriter(type.getKind()), value);
+    }
+    if (isString(type)) {
+      return CodeBlock.of("$L.writeString($L);\n", writer, value);
+    }
+    Optional<TypeMirror> item = listItem(type);
+    if (item.isPresent()) {
+      String itemWriter = "writer" + depth;
+      String itemValue = "item" + depth;
+      return CodeBlock.builder()
+          .add("$L.writeList(\n$>$L,\n($L, $L) -> {\n$>", writer, value, itemWriter, itemValue)
+          .add(writeValue(item.get(), itemValue, itemWriter, depth + 1))
+          .add("$<});\n$<")
+          .build();
+    }
+    CodeBlock.Builder code =
+        CodeBlock.builder()
+            .beginControlFlow("if ($L == null)", value)
+            .addStatement("$L.writeNull()", writer)
+            .nextControlFlow("else");
+    if (isBoxed(type)) {
+      TypeKind kind = types().unboxedType(type).getKind();
+      code.addStatement("$L.$L($L)", writer, primitiveWriter(kind), value);
+    } else if (isEnum(type)) {
+      code.addStatement("$L.writeString($L.name())", writer, value);
+    } else {
+      code.addStatement("$T.write($L, $L)", codecName(types().asElement(type)), writer, value);
+    }
+    return code.endControlFlow().build();
+  }
+
+  private CodeBlock readValue(TypeMirror type, String reader, int depth) {
+    if (type.getKind().isPrimitive()) {
+      return readPrimitive(type.getKind(), reader);
+    }
+    if (isString(type)) {
+      return CodeBlock.of("$L.readString()", reader);
+    }
+    CodeBlock value;
+    if (isBoxed(type)) {
+      value = readPrimitive(types().unboxedType(type).getKind(), reader);
+    } else if (isEnum(type)) {
+      value = CodeBlock.of("$T.valueOf($L.readString())", types().erasure(type), reader);
+    } else if (listItem(type).isPresent()) {
+      String itemReader = "reader" + depth;
+      return CodeBlock.of(
+          "$L.readList($L -> $L)",
+          reader,
+          itemReader,
+          readValue(listItem(type).get(), itemReader, depth + 1));
+    } else {
+      value = CodeBlock.of("$T.read($L)", codecName(types().asElement(type)), reader);
+    }
+    return CodeBlock.of("$L.readNull() ? null : $L", reader, value);
+  }
+
+  private static String primitiveWriter(TypeKind kind) {
+    switch (kind) {
+      case BOOLEAN:
+        return "writeBoolean";
+      case CHAR:
+        return "writeChar";
+      case LONG:
+        return "writeLong";
+      case FLOAT:
+      case DOUBLE:
+        return "writeDouble";
+      default:
+        return "writeInt";
+    }
+  }
+
+  private static CodeBlock readPrimitive(TypeKind kind, String reader) {
+    switch (kind) {
+      case BOOLEAN:
+        return CodeBlock.of("$L.readBoolean()", reader);
+      case CHAR:
+        return CodeBlock.of("$L.readChar()", reader);
+      case LONG:
+        return CodeBlock.of("$L.readLong()", reader);
+      case FLOAT:
+        return CodeBlock.of("(float) $L.readDouble()", reader);
+      case DOUBLE:
+        return CodeBlock.of("$L.readDouble()", reader);
+      case BYTE:
+        return CodeBlock.of("(byte) $L.readInt()", reader);
+      case SHORT:
+        return CodeBlock.of("(short) $L.readInt()", reader);
+      default:
+        return CodeBlock.of("$L.readInt()", reader);
+    }
+  }
+
+  private boolean isBoxed(TypeMirror type) {
+    try {
+      return TypeKind.DECLARED == type.getKind() && nonNull(types().unboxedType(type));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private boolean isString(TypeMirror type) {
+    return types()
+        .isSameType(type, elements().getTypeElement(String.class.getCanonicalName()).asType());
+  }
+
+  private boolean isEnum(TypeMirror type) {
+    Element element = types().asElement(type);
+    return nonNull(element) && ElementKind.ENUM == element.getKind();
+  }
+
+  private boolean isCodecType(TypeMirror type) {
+    Element element = types().asElement(type);
+    return nonNull(element) && nonNull(element.getAnnotation(GenerateCodec.class));
+  }
+
+  private Optional<TypeMirror> listItem(TypeMirror type) {
+    if (TypeKind.DECLARED != type.getKind()) {
+      return Optional.empty();
+    }
+    DeclaredType declared = (DeclaredType) type;
+    TypeElement list = elements().getTypeElement(List.class.getCanonicalName());
+    if (declared.getTypeArguments().size() == 1
+        && types().isSameType(types().erasure(type), types().erasure(list.asType()))) {
+      return Optional.of(declared.getTypeArguments().get(0));
+    }
+    return Optional.empty();
+  }
+
+  private ClassName codecName(Element type) {
+    ClassName className = ClassName.get((TypeElement) type);
+    return ClassName.get(
+        className.packageName(), String.join("_", className.simpleNames()) + "_Codec");
+  }
+
+  private void error(String message, Element element) {
+    messager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  private void writeFile(TypeSpec typeSpec, Element element) {
+    try {
+      JavaFile.builder(elements().getPackageOf(element).getQualifiedName().toString(), typeSpec)
+          .build()
+          .writeTo(processingEnv.getFiler());
+    } catch (IOException e) {
+      ExceptionUtil.messageStackTrace(processingEnv.getMessager(), e);
+      messager().printMessage(Diagnostic.Kind.ERROR, "Failed to write generated class", element);
+    }
+  }
+
+  @Override
+  public Types types() {
+    return processingEnv.getTypeUtils();
+  }
+
+  @Override
+  public Elements elements() {
+    return processingEnv.getElementUtils();
+  }
+
+  @Override
+  public Messager messager() {
+    return processingEnv.getMessager();
+  }
+}
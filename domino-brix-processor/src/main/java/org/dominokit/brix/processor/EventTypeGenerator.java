@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.processor;
+
+import static java.util.Objects.nonNull;
+
+import com.google.auto.service.AutoService;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import org.dominokit.brix.annotations.Debounce;
+import org.dominokit.brix.annotations.Throttle;
+import org.dominokit.brix.api.BrixComponentInitializer;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.EventHierarchy;
+import org.dominokit.brix.events.RateLimit;
+import org.dominokit.brix.events.RateLimitEdge;
+import org.dominokit.brix.events.RateLimits;
+
+/**
+ * Writes an {@code <Event>_EventType} initializer for every concrete event class compiled in the
+ * module that has superclasses or interfaces listeners can subscribe to, or that declares a rate
+ * limit with {@link Throttle} or {@link Debounce}. When the application starts the initializer
+ * registers the supertypes of the event class in the {@link EventHierarchy}, so the types of an
+ * event are resolved with a single table lookup, and its rate limit in {@link RateLimits}, so the
+ * limit applies before any presenter listening for the type is loaded.
+ */
+public class EventTypeGenerator implements HasProcessorEnv {
+
+  private final ProcessingEnvironment processingEnv;
+  private final SourceUtil sourceUtil;
+  private final Set<String> generated = new HashSet<>();
+
+  public EventTypeGenerator(ProcessingEnvironment processingEnv) {
+    this.processingEnv = processingEnv;
+    this.sourceUtil = new SourceUtil(this);
+  }
+
+  /**
+   * Writes the initializers of the event classes among the given elements and their nested types.
+   *
+   * @param elements root elements of the round
+   */
+  public void generate(Collection<? extends Element> elements) {
+    for (TypeElement type : ElementFilter.typesIn(elements)) {
+      generate(type);
+    }
+  }
+
+  private void generate(TypeElement type) {
+    generate(ElementFilter.typesIn(type.getEnclosedElements()));
+    if (!isConcreteEvent(type) || !generated.add(type.getQualifiedName().toString())) {
+      return;
+    }
+    Set<TypeElement> supertypes = new LinkedHashSet<>();
+    collectSupertypes(type.asType(), type, supertypes);
+    Optional<CodeBlock> rateLimit = rateLimit(type);
+    if (supertypes.isEmpty() && !rateLimit.isPresent()) {
+      return;
+    }
+
+    MethodSpec.Builder init =
+        MethodSpec.methodBuilder("init")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC);
+    if (!supertypes.isEmpty()) {
+      CodeBlock.Builder registration =
+          CodeBlock.builder().add("$T.register($T.class", EventHierarchy.class, type);
+      supertypes.forEach(supertype -> registration.add(", $T.class", supertype));
+      init.addStatement(registration.add(")").build());
+    }
+    rateLimit.ifPresent(
+        limit -> init.addStatement("$T.register($T.class, $L)", RateLimits.class, type, limit));
+    TypeSpec initializer =
+        TypeSpec.classBuilder(initializerName(type))
+            .addJavadoc("Generated registration of the event type {@link $T}.\n", type)
+            .addAnnotation(
+                AnnotationSpec.builder(AutoService.class)
+                    .addMember("value", "$T.class", BrixComponentInitializer.class)
+                    .build())
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addSuperinterface(BrixComponentInitializer.class)
+            .addMethod(init.build())
+            .build();
+    try {
+      JavaFile.builder(elements().getPackageOf(type).getQualifiedName().toString(), initializer)
+          .build()
+          .writeTo(filer());
+    } catch (IOException e) {
+      ExceptionUtil.messageStackTrace(messager(), e);
+      messager()
+          .printMessage(Diagnostic.Kind.ERROR, "Failed to write the event type of " + type, type);
+    }
+  }
+
+  private Optional<CodeBlock> rateLimit(TypeElement type) {
+    Throttle throttle = type.getAnnotation(Throttle.class);
+    Debounce debounce = type.getAnnotation(Debounce.class);
+    if (nonNull(throttle) && nonNull(debounce)) {
+      messager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "Event type [" + type + "] cannot be both @Throttle and @Debounce.",
+              type);
+      return Optional.empty();
+    }
+    if (nonNull(throttle)) {
+      return Optional.of(
+          CodeBlock.of(
+              "$T.throttle($L, $T.$L)",
+              RateLimit.class,
+              throttle.value(),
+              RateLimitEdge.class,
+              throttle.edge()));
+    }
+    if (nonNull(debounce)) {
+      return Optional.of(
+          CodeBlock.of(
+              "$T.debounce($L, $T.$L)",
+              RateLimit.class,
+              debounce.value(),
+              RateLimitEdge.class,
+              debounce.edge()));
+    }
+    return Optional.empty();
+  }
+
+  private boolean isConcreteEvent(TypeElement type) {
+    return ElementKind.CLASS == type.getKind()
+        && !type.getModifiers().contains(Modifier.ABSTRACT)
+        && !type.getModifiers().contains(Modifier.PRIVATE)
+        && sourceUtil.isAssignableFrom(BrixEvent.class, type.asType());
+  }
+
+  // superclasses below BrixEvent and all interfaces, except the ones the initializer cannot see.
+  private void collectSupertypes(TypeMirror type, TypeElement event, Set<TypeElement> supertypes) {
+    for (TypeMirror supertype : types().directSupertypes(type)) {
+      if (TypeKind.DECLARED != supertype.getKind()) {
+        continue;
+      }
+      TypeElement element = (TypeElement) ((DeclaredType) supertype).asElement();
+      String name = element.getQualifiedName().toString();
+      if (name.equals(BrixEvent.class.getCanonicalName())
+          || name.equals(Object.class.getCanonicalName())) {
+        continue;
+      }
+      if (isAccessible(element, event)) {
+        supertypes.add(element);
+      }
+      collectSupertypes(supertype, event, supertypes);
+    }
+  }
+
+  private boolean isAccessible(TypeElement type, TypeElement from) {
+    if (type.getModifiers().contains(Modifier.PRIVATE)) {
+      return false;
+    }
+    return type.getModifiers().contains(Modifier.PUBLIC)
+        || elements().getPackageOf(type).equals(elements().getPackageOf(from));
+  }
+
+  private static ClassName initializerName(TypeElement type) {
+    ClassName className = ClassName.get(type);
+    return ClassName.get(
+        className.packageName(), String.join("_", className.simpleNames()) + "_EventType");
+  }
+
+  private Filer filer() {
+    return processingEnv.getFiler();
+  }
+
+  @Override
+  public Types types() {
+    return processingEnv.getTypeUtils();
+  }
+
+  @Override
+  public Elements elements() {
+    return processingEnv.getElementUtils();
+  }
+
+  @Override
+  public Messager messager() {
+    return processingEnv.getMessager();
+  }
+}
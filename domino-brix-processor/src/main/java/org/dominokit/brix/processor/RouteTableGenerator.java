@@ -0,0 +1,393 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.processor;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import org.dominokit.brix.annotations.BrixRoute;
+import org.dominokit.brix.api.ChildPresenter;
+import org.dominokit.brix.api.Presenter;
+import org.dominokit.brix.api.RouteDefinition;
+import org.dominokit.brix.api.RouteMode;
+
+/**
+ * Composes the routes of the processed presenters and writes them to a single {@code
+ * BrixRouteTable} class per compiled module, written in the first processing round that brings no
+ * new routed presenters. The table is written to the package given by the {@value #PACKAGE_OPTION}
+ * processor option, or else to the common package of the routed presenters of the first round that
+ * has any, or the package of the first of them when they share none. Routes are composed the same
+ * way {@link org.dominokit.brix.api.ChildPresenterRouting} composes them at runtime, presenters
+ * without a {@link BrixRoute}, presenters with a custom router in their parent chain and presenters
+ * generated after the table was written are left out of it.
+ *
+ * <p>Two routes with the same mode and path are reported as errors, two routes matching the same
+ * tokens only because their path parameters have different names are reported as warnings.
+ */
+public class RouteTableGenerator {
+
+  /** Processor option setting the package of the generated route table. */
+  public static final String PACKAGE_OPTION = "brix.routeTablePackage";
+
+  private static final String TABLE_NAME = "BrixRouteTable";
+
+  private final HasProcessorEnv env;
+  private final SourceUtil sourceUtil;
+  private final Filer filer;
+  private final String tablePackage;
+  private final Map<String, Route> routes = new HashMap<>();
+  private final Map<String, Route> routesByPath = new HashMap<>();
+  private final List<Route> tableRoutes = new ArrayList<>();
+  private final Set<String> fieldNames = new HashSet<>();
+  private ClassName table;
+  private boolean collected = false;
+  private boolean written = false;
+
+  /**
+   * @param env processing environment
+   * @param sourceUtil source utilities
+   * @param filer filer writing the table
+   * @param tablePackage package of the route table, {@code null} to use the common package of the
+   *     routed presenters
+   */
+  public RouteTableGenerator(
+      HasProcessorEnv env, SourceUtil sourceUtil, Filer filer, String tablePackage) {
+    this.env = env;
+    this.sourceUtil = sourceUtil;
+    this.filer = filer;
+    this.tablePackage = tablePackage;
+  }
+
+  /**
+   * Adds the routes of the presenters processed in the current round to the route table.
+   *
+   * @param presenters presenters of the round
+   */
+  public void collect(Collection<? extends Element> presenters) {
+    Map<String, Route> roundRoutes = new LinkedHashMap<>();
+    for (Element presenter : presenters) {
+      collect((TypeElement) presenter, roundRoutes);
+    }
+    for (Route route : roundRoutes.values()) {
+      if (route.routed && !route.hasTable() && !written) {
+        if (isNull(table)) {
+          table = tableName(presenters);
+        }
+        route.table = table;
+        route.field = fieldName(route.element, fieldNames);
+        tableRoutes.add(route);
+        collected = true;
+      }
+    }
+  }
+
+  /**
+   * Writes the route table of the collected routes, unless the current round collected new routes
+   * and more rounds are to come.
+   *
+   * @param processingOver whether this is the last processing round
+   */
+  public void generate(boolean processingOver) {
+    if (written || tableRoutes.isEmpty() || (collected && !processingOver)) {
+      collected = false;
+      return;
+    }
+    written = true;
+    TypeSpec.Builder tableBuilder =
+        TypeSpec.classBuilder(table)
+            .addJavadoc("Routes of the presenters of this module, generated at compile time.\n")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+
+    List<String> fields = new ArrayList<>();
+    for (Route route : tableRoutes) {
+      fields.add(route.field);
+      tableBuilder.addField(
+          FieldSpec.builder(
+                  RouteDefinition.class,
+                  route.field,
+                  Modifier.PUBLIC,
+                  Modifier.STATIC,
+                  Modifier.FINAL)
+              .initializer(
+                  "new $T($S, $S, $S, $T.$L, $L)",
+                  RouteDefinition.class,
+                  route.element.getQualifiedName().toString(),
+                  route.routingPath,
+                  route.path,
+                  RouteMode.class,
+                  route.mode,
+                  nonNull(route.parent) && route.parent.hasTable() ? route.parent.field : "null")
+              .build());
+    }
+    tableBuilder.addField(
+        FieldSpec.builder(
+                ParameterizedTypeName.get(List.class, RouteDefinition.class),
+                "ROUTES",
+                Modifier.PUBLIC,
+                Modifier.STATIC,
+                Modifier.FINAL)
+            .initializer(
+                "$T.unmodifiableList($T.asList($L))",
+                Collections.class,
+                Arrays.class,
+                String.join(", ", fields))
+            .build());
+    try {
+      JavaFile.builder(table.packageName(), tableBuilder.build()).build().writeTo(filer);
+    } catch (IOException e) {
+      ExceptionUtil.messageStackTrace(env.messager(), e);
+      env.messager().printMessage(Diagnostic.Kind.ERROR, "Failed to write the route table");
+    }
+  }
+
+  /**
+   * @param presenter routed presenter
+   * @return a reference to the table route of the presenter, empty when it has no table route
+   */
+  public Optional<CodeBlock> routeOf(Element presenter) {
+    Route route = routes.get(((TypeElement) presenter).getQualifiedName().toString());
+    if (isNull(route) || !route.hasTable()) {
+      return Optional.empty();
+    }
+    return Optional.of(CodeBlock.of("$T.$L", route.table, route.field));
+  }
+
+  private Route collect(TypeElement presenter, Map<String, Route> roundRoutes) {
+    String name = presenter.getQualifiedName().toString();
+    if (roundRoutes.containsKey(name)) {
+      return roundRoutes.get(name);
+    }
+    Route route = resolve(presenter, roundRoutes);
+    if (nonNull(route)) {
+      roundRoutes.put(name, route);
+    }
+    return route;
+  }
+
+  private Route resolve(TypeElement presenter, Map<String, Route> roundRoutes) {
+    if (hasCustomRouter(presenter)) {
+      return null;
+    }
+    Route parent = null;
+    if (sourceUtil.isAssignableFrom(ChildPresenter.class, presenter.asType())) {
+      Optional<? extends TypeMirror> parentType =
+          sourceUtil.findTypeArgument(presenter, Presenter.class);
+      if (!parentType.isPresent()) {
+        return null;
+      }
+      parent = collect((TypeElement) env.types().asElement(parentType.get()), roundRoutes);
+      if (isNull(parent)) {
+        return null;
+      }
+    }
+    String name = presenter.getQualifiedName().toString();
+    Route known = routes.get(name);
+    if (nonNull(known)) {
+      return known;
+    }
+    Route route = compose(presenter, parent);
+    routes.put(name, route);
+    checkConflicts(route);
+    return route;
+  }
+
+  private Route compose(TypeElement presenter, Route parent) {
+    BrixRoute annotation = sourceUtil.findClassAnnotation(presenter, BrixRoute.class);
+    boolean routed = nonNull(annotation);
+    String path = !routed || isNull(annotation.value()) ? "" : annotation.value();
+    boolean emptyPath = path.trim().isEmpty();
+    if (isNull(parent)) {
+      if (emptyPath) {
+        return new Route(presenter, routed, "", "", RouteMode.ANY, null);
+      }
+      return new Route(
+          presenter,
+          routed,
+          path,
+          path,
+          path.contains("#") ? RouteMode.FRAGMENT : RouteMode.PATH,
+          null);
+    }
+    if (emptyPath) {
+      return new Route(presenter, routed, "", parent.path, parent.mode, parent);
+    }
+    boolean hashBased = path.contains("#") || parent.isHashBased();
+    String parentPath = parent.routingPath;
+    if (parentPath.trim().isEmpty()) {
+      return new Route(
+          presenter, routed, path, path, hashBased ? RouteMode.FRAGMENT : RouteMode.PATH, parent);
+    }
+    if (parent.isHashBased()) {
+      return new Route(presenter, routed, path, parentPath + path, RouteMode.FRAGMENT, parent);
+    }
+    return new Route(
+        presenter,
+        routed,
+        path,
+        parentPath + path,
+        hashBased ? RouteMode.PATH_AND_FRAGMENT : RouteMode.PATH,
+        parent);
+  }
+
+  private void checkConflicts(Route route) {
+    if (route.routingPath.trim().isEmpty()) {
+      return;
+    }
+    String key = route.mode + ":" + normalize(route.path);
+    Route existing = routesByPath.get(key);
+    if (isNull(existing)) {
+      routesByPath.put(key, route);
+    } else if (existing.path.equals(route.path)) {
+      env.messager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "Duplicate route ["
+                  + route.path
+                  + "], already defined by "
+                  + existing.element.getQualifiedName(),
+              route.element);
+    } else {
+      env.messager()
+          .printMessage(
+              Diagnostic.Kind.WARNING,
+              "Route ["
+                  + route.path
+                  + "] is shadowed by route ["
+                  + existing.path
+                  + "] of "
+                  + existing.element.getQualifiedName()
+                  + ", both match the same tokens",
+              route.element);
+    }
+  }
+
+  private static String normalize(String path) {
+    List<String> segments = new ArrayList<>();
+    for (String segment : path.split("[/#]")) {
+      if (segment.isEmpty()) {
+        continue;
+      }
+      boolean parameter =
+          segment.startsWith(":") || (segment.startsWith("{") && segment.endsWith("}"));
+      segments.add(parameter ? "*" : segment);
+    }
+    return String.join("/", segments);
+  }
+
+  private boolean hasCustomRouter(Element presenter) {
+    Optional<TypeMirror> router =
+        sourceUtil.getClassValueFromAnnotation(presenter, BrixRoute.class, "router");
+    return router.isPresent()
+        && !sourceUtil.isAssignableFrom(BrixRoute.UnspecifiedRouter.class, router.get());
+  }
+
+  private ClassName tableName(Collection<? extends Element> presenters) {
+    if (nonNull(tablePackage)) {
+      return ClassName.get(tablePackage, TABLE_NAME);
+    }
+    List<String> common = null;
+    String firstPackage = null;
+    for (Element presenter : presenters) {
+      String packageName = env.elements().getPackageOf(presenter).getQualifiedName().toString();
+      List<String> packageSegments = Arrays.asList(packageName.split("\\."));
+      if (isNull(common)) {
+        firstPackage = packageName;
+        common = new ArrayList<>(packageSegments);
+      } else {
+        int index = 0;
+        while (index < common.size()
+            && index < packageSegments.size()
+            && common.get(index).equals(packageSegments.get(index))) {
+          index++;
+        }
+        common = new ArrayList<>(common.subList(0, index));
+      }
+    }
+    String packageName = String.join(".", common);
+    return ClassName.get(packageName.isEmpty() ? firstPackage : packageName, TABLE_NAME);
+  }
+
+  private static String fieldName(TypeElement presenter, Set<String> fieldNames) {
+    String base =
+        presenter.getSimpleName().toString().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    String name = base;
+    int index = 1;
+    while (!fieldNames.add(name)) {
+      name = base + "_" + index++;
+    }
+    return name;
+  }
+
+  private static final class Route {
+    private final TypeElement element;
+    private final boolean routed;
+    private final String routingPath;
+    private final String path;
+    private final RouteMode mode;
+    private final Route parent;
+    private ClassName table;
+    private String field;
+
+    private Route(
+        TypeElement element,
+        boolean routed,
+        String routingPath,
+        String path,
+        RouteMode mode,
+        Route parent) {
+      this.element = element;
+      this.routed = routed;
+      this.routingPath = routingPath;
+      this.path = path;
+      this.mode = mode;
+      this.parent = parent;
+    }
+
+    private boolean isHashBased() {
+      return RouteMode.FRAGMENT == mode || RouteMode.PATH_AND_FRAGMENT == mode;
+    }
+
+    private boolean hasTable() {
+      return nonNull(table);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import org.dominokit.brix.events.EventCodecException;
+import org.junit.jupiter.api.Test;
+
+public class EventCodecTest {
+
+  private final SampleCodecEvent event =
+      new SampleCodecEvent(
+          "name: 1;2~é",
+          -42,
+          true,
+          Long.MIN_VALUE,
+          SampleCodecEvent.Kind.REMOVED,
+          Arrays.asList("a", null, ""),
+          Arrays.asList(new SamplePoint(1.5, -0.25), null));
+
+  @Test
+  public void roundTripsEveryValue() {
+    SampleCodecEvent decoded =
+        SampleCodecEvent_Codec.INSTANCE.decode(SampleCodecEvent_Codec.INSTANCE.encode(event));
+
+    assertEquals(event.getName(), decoded.getName());
+    assertEquals(event.getCount(), decoded.getCount());
+    assertEquals(event.isSelected(), decoded.isSelected());
+    assertEquals(event.getTotal(), decoded.getTotal());
+    assertEquals(event.kind(), decoded.kind());
+    assertEquals(event.getTags(), decoded.getTags());
+    assertEquals(2, decoded.getPoints().size());
+    assertEquals(1.5, decoded.getPoints().get(0).x);
+    assertEquals(-0.25, decoded.getPoints().get(0).y);
+    assertNull(decoded.getPoints().get(1));
+  }
+
+  @Test
+  public void roundTripsNullValues() {
+    SampleCodecEvent empty = new SampleCodecEvent(null, 0, false, null, null, null, List.of());
+
+    SampleCodecEvent decoded =
+        SampleCodecEvent_Codec.INSTANCE.decode(SampleCodecEvent_Codec.INSTANCE.encode(empty));
+
+    assertNull(decoded.getName());
+    assertNull(decoded.getTotal());
+    assertNull(decoded.kind());
+    assertNull(decoded.getTags());
+    assertEquals(List.of(), decoded.getPoints());
+  }
+
+  @Test
+  public void rejectsEveryTruncatedPayload() {
+    String payload = SampleCodecEvent_Codec.INSTANCE.encode(event);
+
+    for (int length = 0; length < payload.length(); length++) {
+      String truncated = payload.substring(0, length);
+      assertThrows(
+          EventCodecException.class,
+          () -> SampleCodecEvent_Codec.INSTANCE.decode(truncated),
+          truncated);
+    }
+  }
+
+  @Test
+  public void rejectsCorruptedPayloads() {
+    String payload = SampleCodecEvent_Codec.INSTANCE.encode(event);
+
+    assertThrows(
+        EventCodecException.class,
+        () -> SampleCodecEvent_Codec.INSTANCE.decode(payload.replace("REMOVED", "UNKNOWN")));
+    assertThrows(
+        EventCodecException.class, () -> SampleCodecEvent_Codec.INSTANCE.decode(payload + "t"));
+    assertThrows(
+        EventCodecException.class,
+        () -> SampleCodecEvent_Codec.INSTANCE.decode(payload.replace("-42;", "4x;")));
+    assertThrows(EventCodecException.class, () -> SampleCodecEvent_Codec.INSTANCE.decode(null));
+  }
+}
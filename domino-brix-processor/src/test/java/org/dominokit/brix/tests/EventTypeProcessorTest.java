@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.tests;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.dominokit.brix.processor.EventTypeProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EventTypeProcessorTest {
+
+  @TempDir Path dir;
+
+  @Test
+  public void registersTheSupertypesOfEventsOnlyCompilations() throws IOException {
+    compile(
+        "AuditEvent",
+        "public abstract class AuditEvent extends org.dominokit.brix.events.BrixEvent {}",
+        "LoginEvent",
+        "public class LoginEvent extends AuditEvent {}");
+
+    String eventType = generated("LoginEvent_EventType");
+    assertTrue(
+        eventType.contains("EventHierarchy.register(LoginEvent.class, AuditEvent.class)"),
+        eventType);
+  }
+
+  @Test
+  public void registersTheRateLimitsOfEventsOnlyCompilations() throws IOException {
+    compile(
+        "ScrollEvent",
+        "@org.dominokit.brix.annotations.Throttle(50)\n"
+            + "public class ScrollEvent extends org.dominokit.brix.events.BrixEvent {}",
+        "SearchEvent",
+        "@org.dominokit.brix.annotations.Debounce(value = 200, edge ="
+            + " org.dominokit.brix.events.RateLimitEdge.LEADING)\n"
+            + "public class SearchEvent extends org.dominokit.brix.events.BrixEvent {}");
+
+    String scroll = generated("ScrollEvent_EventType");
+    assertTrue(
+        scroll.contains(
+            "RateLimits.register(ScrollEvent.class, RateLimit.throttle(50.0, RateLimitEdge.BOTH))"),
+        scroll);
+    String search = generated("SearchEvent_EventType");
+    assertTrue(
+        search.contains(
+            "RateLimits.register(SearchEvent.class, RateLimit.debounce(200.0,"
+                + " RateLimitEdge.LEADING))"),
+        search);
+  }
+
+  private void compile(String... namesAndSources) throws IOException {
+    Path sources = Files.createDirectories(dir.resolve("src/sample"));
+    Path[] files = new Path[namesAndSources.length / 2];
+    for (int i = 0; i < namesAndSources.length; i += 2) {
+      files[i / 2] = sources.resolve(namesAndSources[i] + ".java");
+      Files.write(
+          files[i / 2],
+          ("package sample;\n" + namesAndSources[i + 1]).getBytes(StandardCharsets.UTF_8));
+    }
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              null,
+              Arrays.asList(
+                  "-proc:only",
+                  "-s",
+                  Files.createDirectories(dir.resolve("gen")).toString(),
+                  "-classpath",
+                  System.getProperty("java.class.path")),
+              null,
+              fileManager.getJavaFileObjects(files));
+      task.setProcessors(Collections.singletonList(new EventTypeProcessor()));
+      assertTrue(task.call());
+    }
+  }
+
+  private String generated(String name) throws IOException {
+    Path file = dir.resolve("gen/sample/" + name + ".java");
+    assertTrue(Files.exists(file), name + " was not generated");
+    return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.brix.events.BrixEvent;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.EventHierarchy;
+import org.dominokit.brix.events.RateLimits;
+import org.dominokit.brix.events.VirtualEventScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class EventTypeTest {
+
+  @AfterEach
+  public void tearDown() {
+    RateLimits.register(SampleEvent2.class, null);
+  }
+
+  @Test
+  public void registersTheSupertypesOfTheEventType() {
+    new SampleLoginEvent_EventType().init();
+
+    assertArrayEquals(
+        new Class<?>[] {SampleLoginEvent.class, SampleAuditEvent.class, SampleTrackedEvent.class},
+        EventHierarchy.typesOf(SampleLoginEvent.class));
+  }
+
+  @Test
+  public void registersTheRateLimitOfTheEventType() {
+    new SampleEvent2_EventType().init();
+    VirtualEventScheduler scheduler = new VirtualEventScheduler();
+    BrixEvents events = new BrixEvents(scheduler);
+    List<BrixEvent> received = new ArrayList<>();
+    events.register(received::add);
+
+    events.fireEvent(new SampleEvent2());
+    events.fireEvent(new SampleEvent2());
+    events.fireEvent(new SampleEvent2());
+    assertEquals(1, received.size());
+
+    scheduler.advance(100);
+    assertEquals(2, received.size());
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.dominokit.brix.api.RouteDefinition;
+import org.dominokit.brix.api.RouteMode;
+import org.dominokit.brix.tests.presenters.BrixRouteTable;
+import org.dominokit.brix.tests.presenters.TestPresenterOne;
+import org.dominokit.brix.tests.presenters.TestPresenterOneChild;
+import org.dominokit.brix.tests.presenters.TestPresenterTwo;
+import org.junit.jupiter.api.Test;
+
+public class RouteTableTest {
+
+  @Test
+  public void listsOnlyRoutedPresenters() {
+    List<String> presenters =
+        BrixRouteTable.ROUTES.stream()
+            .map(RouteDefinition::getName)
+            .sorted()
+            .collect(Collectors.toList());
+
+    assertEquals(
+        List.of(
+            TestPresenterOne.class.getCanonicalName(),
+            TestPresenterOneChild.class.getCanonicalName(),
+            TestPresenterTwo.class.getCanonicalName()),
+        presenters);
+  }
+
+  @Test
+  public void composesChildRoutesWithTheirParent() {
+    RouteDefinition child = BrixRouteTable.TEST_PRESENTER_ONE_CHILD;
+
+    assertEquals("presenters/one/childone", child.getPath());
+    assertEquals(RouteMode.PATH, child.getMode());
+    assertSame(BrixRouteTable.TEST_PRESENTER_ONE, child.getParent());
+    assertNull(BrixRouteTable.TEST_PRESENTER_ONE.getParent());
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.tests;
+
+import java.util.List;
+import org.dominokit.brix.annotations.GenerateCodec;
+import org.dominokit.brix.events.BrixEvent;
+
+@GenerateCodec
+public class SampleCodecEvent extends BrixEvent {
+
+  public enum Kind {
+    ADDED,
+    REMOVED
+  }
+
+  private final String name;
+  private final int count;
+  private final boolean selected;
+  private final Long total;
+  private final Kind kind;
+  private final List<String> tags;
+  private final List<SamplePoint> points;
+
+  public SampleCodecEvent(
+      String name,
+      int count,
+      boolean selected,
+      Long total,
+      Kind kind,
+      List<String> tags,
+      List<SamplePoint> points) {
+    this.name = name;
+    this.count = count;
+    this.selected = selected;
+    this.total = total;
+    this.kind = kind;
+    this.tags = tags;
+    this.points = points;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public boolean isSelected() {
+    return selected;
+  }
+
+  public Long getTotal() {
+    return total;
+  }
+
+  public Kind kind() {
+    return kind;
+  }
+
+  public List<String> getTags() {
+    return tags;
+  }
+
+  public List<SamplePoint> getPoints() {
+    return points;
+  }
+}
@@ -15,6 +15,8 @@
  */
 package org.dominokit.brix.tests;
 
+import org.dominokit.brix.annotations.Throttle;
 import org.dominokit.brix.events.BrixEvent;
 
+@Throttle(100)
 public class SampleEvent2 extends BrixEvent {}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.tests.presenters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Set;
+import org.dominokit.brix.events.BrixEvents;
+import org.dominokit.brix.events.VirtualEventScheduler;
+import org.dominokit.brix.tests.SampleAuditEvent;
+import org.dominokit.brix.tests.SampleEvent;
+import org.dominokit.brix.tests.SampleEvent2;
+import org.dominokit.brix.tests.SampleLoginEvent;
+import org.dominokit.brix.tests.SampleLoginEvent_EventType;
+import org.dominokit.brix.tests.SampleTrackedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ListenForDispatchTest {
+
+  private BrixEvents events;
+
+  @BeforeEach
+  public void setUp() {
+    new SampleLoginEvent_EventType().init();
+    events = new BrixEvents(new VirtualEventScheduler());
+  }
+
+  @Test
+  public void subscribesToTheListenedTypesOnly() {
+    TestEventsPresenterImpl presenter = new TestEventsPresenterImpl();
+
+    assertEquals(
+        Set.of(SampleEvent.class, SampleAuditEvent.class, SampleTrackedEvent.class),
+        presenter.getEventTypes());
+  }
+
+  @Test
+  public void dispatchesEachEventToItsHandlers() {
+    TestEventsPresenterImpl presenter = new TestEventsPresenterImpl();
+    events.register(presenter);
+
+    events.fireEvent(new SampleEvent());
+    events.fireEvent(new SampleEvent2());
+    events.fireEvent(new SampleLoginEvent());
+
+    assertEquals(List.of("sample", "sample again", "audit", "tracked"), presenter.calls);
+  }
+
+  @Test
+  public void presentersOverridingOnEventReceivedReceiveEveryEvent() {
+    TestAllEventsPresenterImpl presenter = new TestAllEventsPresenterImpl();
+    events.register(presenter);
+
+    events.fireEvent(new SampleEvent());
+    events.fireEvent(new SampleEvent2());
+
+    assertNull(presenter.getEventTypes());
+    assertEquals(List.of("any", "sample", "any"), presenter.calls);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.tests.presenters;
+
+import dagger.Lazy;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import org.dominokit.brix.annotations.BrixPresenter;
+import org.dominokit.brix.annotations.ListenFor;
+import org.dominokit.brix.api.Presenter;
+import org.dominokit.brix.tests.SampleAuditEvent;
+import org.dominokit.brix.tests.SampleEvent;
+import org.dominokit.brix.tests.SampleTrackedEvent;
+import org.dominokit.brix.tests.TestViewTwo;
+
+@BrixPresenter
+public class TestEventsPresenter extends Presenter<TestViewTwo>
+    implements TestViewTwo.TestTwoUiHandlers {
+
+  @Inject Lazy<TestViewTwo> view;
+  final List<String> calls = new ArrayList<>();
+
+  @ListenFor(SampleEvent.class)
+  public void onSampleEvent(SampleEvent event) {
+    calls.add("sample");
+  }
+
+  @ListenFor(SampleEvent.class)
+  public void onSampleEventAgain(SampleEvent event) {
+    calls.add("sample again");
+  }
+
+  @ListenFor(SampleAuditEvent.class)
+  public void onAuditEvent(SampleAuditEvent event) {
+    calls.add("audit");
+  }
+
+  @ListenFor(SampleTrackedEvent.class)
+  public void onTrackedEvent(SampleTrackedEvent event) {
+    calls.add("tracked");
+  }
+}
@@ -38,8 +38,10 @@ import org.dominokit.brix.annotations.RegisterSlots;
 import org.dominokit.brix.annotations.UiHandler;
 import org.dominokit.brix.api.BrixSlots;
 import org.dominokit.brix.api.Presenter;
+import org.dominokit.brix.tests.SampleAuditEvent;
 import org.dominokit.brix.tests.SampleEvent;
 import org.dominokit.brix.tests.SampleEvent2;
+import org.dominokit.brix.tests.SampleTrackedEvent;
 import org.dominokit.brix.tests.TestViewOne;
 
 @BrixPresenter
@@ -63,6 +65,12 @@ public class TestPresenterOne extends Presenter<TestViewOne>
   @ListenFor(SampleEvent2.class)
   public void onSampleEvent2(SampleEvent2 event) {}
 
+  @ListenFor(SampleAuditEvent.class)
+  public void onAuditEvent(SampleAuditEvent event) {}
+
+  @ListenFor(SampleTrackedEvent.class)
+  public void onTrackedEvent(SampleTrackedEvent event) {}
+
   @PostConstruct
   public void afterConstructed() {}
 
@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.tests.presenters;
+
+import dagger.Lazy;
+import javax.inject.Inject;
+import org.dominokit.brix.annotations.BrixPresenter;
+import org.dominokit.brix.api.Presenter;
+import org.dominokit.brix.tests.TestViewTwo;
+
+@BrixPresenter
+public class TestPresenterThree extends Presenter<TestViewTwo>
+    implements TestViewTwo.TestTwoUiHandlers {
+
+  @Inject Lazy<TestViewTwo> view;
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.hub;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.dominokit.brix.events.BrixEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end fan-out of {@link ConcurrentEventHub}. Each operation publishes a burst of events and
+ * returns once every subscriber received the whole burst, so the scores include queueing,
+ * scheduling and delivery on a fixed pool of consumer threads: the throughput is in bursts
+ * delivered per millisecond and the sampled time is the latency of the slowest subscriber. The
+ * subscriber queues hold a full burst, no event is dropped. Run with {@code mvn -P jmh test-compile
+ * exec:exec} from {@code domino-brix-shared}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentEventHubBenchmark {
+
+  @Param({"1000", "10000"})
+  public int subscribers;
+
+  @Param({"16"})
+  public int burst;
+
+  @Param({"4"})
+  public int consumers;
+
+  private final LongAdder received = new LongAdder();
+  private long expected = 0;
+  private ExecutorService executor;
+  private ConcurrentEventHub hub;
+  private BrixEvent event;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(consumers);
+    hub = new ConcurrentEventHub(executor, HubOptions.create().setQueueCapacity(burst));
+    for (int i = 0; i < subscribers; i++) {
+      hub.subscribe(BenchmarkEvent.class, ignored -> received.increment());
+    }
+    event = new BenchmarkEvent();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    hub.close();
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public long fanOut() {
+    expected += (long) subscribers * burst;
+    for (int i = 0; i < burst; i++) {
+      hub.publish(event);
+    }
+    while (received.sum() < expected) {
+      Thread.yield();
+    }
+    return expected;
+  }
+
+  public static class BenchmarkEvent extends BrixEvent {}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a reflection-free codec named {@code <Type>_Codec} for the annotated class, writing its
+ * values positionally with a {@link org.dominokit.brix.events.CompactWriter}. For a {@link
+ * org.dominokit.brix.events.BrixEvent} the codec implements {@link
+ * org.dominokit.brix.events.EventCodec} and is available as {@code <Type>_Codec.INSTANCE}.
+ *
+ * <p>The values are the parameters of the non-private constructor with the most parameters, each
+ * read back through a getter, an {@code is} getter, an accessor method or a field named after the
+ * parameter. Supported types are primitives and their wrappers, strings, enums, lists of supported
+ * types and other types annotated with {@code GenerateCodec}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GenerateCodec {}
@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/**
+ * Time source for event timestamps. The default clock uses {@link System#currentTimeMillis()},
+ * another clock can be installed with {@link BrixEvent#setClock(BrixClock)}, for example in tests.
+ */
+@FunctionalInterface
+public interface BrixClock {
+
+  /** Clock backed by {@link System#currentTimeMillis()}. */
+  BrixClock SYSTEM = System::currentTimeMillis;
+
+  /**
+   * @return the current time as a millisecond epoch value
+   */
+  long currentTimeMillis();
+}
@@ -15,6 +15,7 @@
  */
 package org.dominokit.brix.events;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import java.util.Optional;
@@ -23,12 +24,20 @@ import java.util.Optional;
  * Base type for events dispatched through {@link org.dominokit.brix.events.BrixEvents}. Concrete
  * subclasses carry payload specific to a feature. The framework records the source when events are
  * fired to help consumers trace the origin.
+ *
+ * <p>The creation timestamp is taken from the installed {@link BrixClock}. In the default {@link
+ * BrixIds.Mode#COUNTER counter mode} the event only reserves a counter value when it is created and
+ * formats its id the first time it is requested, in {@link BrixIds.Mode#UUID UUID mode} the id is
+ * generated when the event is created.
  */
 public abstract class BrixEvent {
 
+  private static BrixClock clock = BrixClock.SYSTEM;
+
   private final Object source;
-  private final long timestamp;
-  private final String eventId;
+  private long timestamp;
+  private long sequence;
+  private String eventId;
 
   protected BrixEvent() {
     this(null);
@@ -36,8 +45,44 @@ public abstract class BrixEvent {
 
   protected BrixEvent(Object source) {
     this.source = source;
-    this.timestamp = System.currentTimeMillis();
-    this.eventId = java.util.UUID.randomUUID().toString();
+    stamp();
+  }
+
+  /**
+   * Replaces the clock used to timestamp new events.
+   *
+   * @param clock event clock, {@code null} restores {@link BrixClock#SYSTEM}
+   */
+  public static void setClock(BrixClock clock) {
+    BrixEvent.clock = isNull(clock) ? BrixClock.SYSTEM : clock;
+  }
+
+  /** Gives a reused instance a new timestamp and id. */
+  void renew() {
+    stamp();
+  }
+
+  /**
+   * Gives this instance the timestamp and id of another event, used for copies that stand for the
+   * same event.
+   *
+   * @param event the event being copied
+   */
+  void copyIdentity(BrixEvent event) {
+    this.timestamp = event.timestamp;
+    this.sequence = event.sequence;
+    this.eventId = event.eventId;
+  }
+
+  private void stamp() {
+    this.timestamp = clock.currentTimeMillis();
+    if (BrixIds.Mode.UUID == BrixIds.getMode()) {
+      this.sequence = 0;
+      this.eventId = BrixIds.nextId();
+    } else {
+      this.sequence = BrixIds.nextSequence();
+      this.eventId = null;
+    }
   }
 
   /**
@@ -64,6 +109,10 @@ public abstract class BrixEvent {
    * @return event id
    */
   public String getEventId() {
+    if (isNull(eventId)) {
+      // formatting the reserved counter value always gives the same id, a racing call is harmless.
+      eventId = Long.toString(sequence);
+    }
     return eventId;
   }
 
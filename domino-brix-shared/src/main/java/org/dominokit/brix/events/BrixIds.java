@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates identifiers for events and presenters. By default ids come from a monotonic counter,
+ * which is cheap and unique within the running application. {@link Mode#UUID} can be enabled when
+ * ids must be unique across applications, for example when events leave the current page.
+ */
+public final class BrixIds {
+
+  /** Identifier generation strategy. */
+  public enum Mode {
+    /** Sequential ids unique within the running application. */
+    COUNTER,
+    /** Random UUIDs. */
+    UUID
+  }
+
+  private static final AtomicLong counter = new AtomicLong();
+  private static volatile Mode mode = Mode.COUNTER;
+
+  private BrixIds() {}
+
+  /**
+   * Sets the identifier generation strategy.
+   *
+   * @param mode generation mode, {@code null} restores {@link Mode#COUNTER}
+   */
+  public static void setMode(Mode mode) {
+    BrixIds.mode = isNull(mode) ? Mode.COUNTER : mode;
+  }
+
+  /**
+   * @return the identifier generation strategy
+   */
+  public static Mode getMode() {
+    return mode;
+  }
+
+  /**
+   * @return a new identifier
+   */
+  public static String nextId() {
+    if (Mode.UUID == mode) {
+      return UUID.randomUUID().toString();
+    }
+    return Long.toString(nextSequence());
+  }
+
+  /**
+   * @return the next value of the id counter
+   */
+  static long nextSequence() {
+    return counter.incrementAndGet();
+  }
+}
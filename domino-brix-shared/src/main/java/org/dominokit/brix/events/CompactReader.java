@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads the values written by a {@link CompactWriter}, values must be read in the order and with
+ * the types they were written with. Reading past the end of the payload or a value that does not
+ * have the expected type throws an {@link EventCodecException}.
+ */
+public final class CompactReader {
+
+  private final String payload;
+  private int position = 0;
+
+  /**
+   * @param payload string created by a {@link CompactWriter}
+   * @throws EventCodecException if the payload is {@code null}
+   */
+  public CompactReader(String payload) {
+    if (isNull(payload)) {
+      throw new EventCodecException("Missing compact payload.");
+    }
+    this.payload = payload;
+  }
+
+  /**
+   * Reads a whole payload, used by generated {@link EventCodec event codecs}. Failures of the
+   * reader function, such as an unknown enum constant, are reported as an {@link
+   * EventCodecException} too.
+   *
+   * @param payload string created by a {@link CompactWriter}
+   * @param reader reads the value from the payload
+   * @param <T> value type
+   * @return the value read
+   * @throws EventCodecException if the payload is malformed or has trailing content
+   */
+  public static <T> T decode(String payload, Function<CompactReader, T> reader) {
+    CompactReader compactReader = new CompactReader(payload);
+    T value;
+    try {
+      value = reader.apply(compactReader);
+    } catch (EventCodecException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw new EventCodecException(
+          "Malformed compact payload at position [" + compactReader.position + "].", e);
+    }
+    if (compactReader.position != payload.length()) {
+      throw compactReader.malformed();
+    }
+    return value;
+  }
+
+  /**
+   * Skips the next value if it is {@code null}.
+   *
+   * @return true if the next value is {@code null}
+   */
+  public boolean readNull() {
+    if (position < payload.length() && payload.charAt(position) == CompactWriter.NULL) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * @return the next string, may be {@code null}
+   */
+  public String readString() {
+    if (readNull()) {
+      return null;
+    }
+    int separator = payload.indexOf(':', position);
+    if (separator < 0) {
+      throw malformed();
+    }
+    int start = separator + 1;
+    int length = Frames.parseLength(payload.substring(position, separator));
+    if (length < 0 || length > payload.length() - start) {
+      throw malformed();
+    }
+    position = start + length;
+    return payload.substring(start, position);
+  }
+
+  /**
+   * @return the next int
+   */
+  public int readInt() {
+    int start = position;
+    String number = readNumber();
+    try {
+      return Integer.parseInt(number);
+    } catch (NumberFormatException e) {
+      throw malformed(start, e);
+    }
+  }
+
+  /**
+   * @return the next long
+   */
+  public long readLong() {
+    int start = position;
+    String number = readNumber();
+    try {
+      return Long.parseLong(number);
+    } catch (NumberFormatException e) {
+      throw malformed(start, e);
+    }
+  }
+
+  /**
+   * @return the next double
+   */
+  public double readDouble() {
+    int start = position;
+    String number = readNumber();
+    try {
+      return Double.parseDouble(number);
+    } catch (NumberFormatException e) {
+      throw malformed(start, e);
+    }
+  }
+
+  /**
+   * @return the next boolean
+   */
+  public boolean readBoolean() {
+    if (position >= payload.length()) {
+      throw malformed();
+    }
+    char value = payload.charAt(position);
+    if (value != 't' && value != 'f') {
+      throw malformed();
+    }
+    position++;
+    return value == 't';
+  }
+
+  /**
+   * @return the next char
+   */
+  public char readChar() {
+    int start = position;
+    int value = readInt();
+    if (value < Character.MIN_VALUE || value > Character.MAX_VALUE) {
+      throw malformed(start, null);
+    }
+    return (char) value;
+  }
+
+  /**
+   * @param itemReader reads one item
+   * @param <T> item type
+   * @return the next list, may be {@code null}
+   */
+  public <T> List<T> readList(Function<CompactReader, T> itemReader) {
+    if (readNull()) {
+      return null;
+    }
+    int start = position;
+    int size = readInt();
+    if (size < 0 || size > payload.length() - position) {
+      throw malformed(start, null);
+    }
+    List<T> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(itemReader.apply(this));
+    }
+    return values;
+  }
+
+  private String readNumber() {
+    int end = payload.indexOf(CompactWriter.END, position);
+    if (end < 0) {
+      throw malformed();
+    }
+    String number = payload.substring(position, end);
+    position = end + 1;
+    return number;
+  }
+
+  private EventCodecException malformed() {
+    return malformed(position, null);
+  }
+
+  private EventCodecException malformed(int at, Throwable cause) {
+    return new EventCodecException("Malformed compact payload at position [" + at + "].", cause);
+  }
+}
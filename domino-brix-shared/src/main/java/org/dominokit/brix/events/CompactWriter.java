@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Writes values positionally into a compact string read back with a {@link CompactReader} in the
+ * same order. Numbers are written as text ending with a semicolon, strings are prefixed with their
+ * length so they need no escaping, booleans take a single character and {@code null} is written as
+ * a tilde. Used by generated {@link EventCodec event codecs}.
+ */
+public final class CompactWriter {
+
+  static final char NULL = '~';
+  static final char END = ';';
+
+  private final StringBuilder out = new StringBuilder();
+
+  /**
+   * Writes a {@code null} value.
+   *
+   * @return same writer instance
+   */
+  public CompactWriter writeNull() {
+    out.append(NULL);
+    return this;
+  }
+
+  /**
+   * @param value string to write, may be {@code null}
+   * @return same writer instance
+   */
+  public CompactWriter writeString(String value) {
+    if (isNull(value)) {
+      return writeNull();
+    }
+    out.append(value.length()).append(':').append(value);
+    return this;
+  }
+
+  /**
+   * @param value int to write
+   * @return same writer instance
+   */
+  public CompactWriter writeInt(int value) {
+    out.append(value).append(END);
+    return this;
+  }
+
+  /**
+   * @param value long to write
+   * @return same writer instance
+   */
+  public CompactWriter writeLong(long value) {
+    out.append(value).append(END);
+    return this;
+  }
+
+  /**
+   * @param value double to write
+   * @return same writer instance
+   */
+  public CompactWriter writeDouble(double value) {
+    out.append(value).append(END);
+    return this;
+  }
+
+  /**
+   * @param value boolean to write
+   * @return same writer instance
+   */
+  public CompactWriter writeBoolean(boolean value) {
+    out.append(value ? 't' : 'f');
+    return this;
+  }
+
+  /**
+   * @param value char to write
+   * @return same writer instance
+   */
+  public CompactWriter writeChar(char value) {
+    return writeInt(value);
+  }
+
+  /**
+   * Writes the size of the list followed by its items.
+   *
+   * @param values list to write, may be {@code null}
+   * @param itemWriter writes one item
+   * @param <T> item type
+   * @return same writer instance
+   */
+  public <T> CompactWriter writeList(
+      List<T> values, BiConsumer<CompactWriter, ? super T> itemWriter) {
+    if (isNull(values)) {
+      return writeNull();
+    }
+    writeInt(values.size());
+    for (T value : values) {
+      itemWriter.accept(this, value);
+    }
+    return this;
+  }
+
+  /**
+   * @return the written values
+   */
+  @Override
+  public String toString() {
+    return out.toString();
+  }
+}
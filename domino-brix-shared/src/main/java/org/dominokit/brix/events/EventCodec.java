@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/**
+ * Converts an event to and from a string so it can be relayed to other browser tabs, recorded in a
+ * journal or sent to a worker. Codecs can be generated for events annotated with {@code
+ * GenerateCodec}.
+ *
+ * @param <E> event type
+ */
+public interface EventCodec<E extends BrixEvent> {
+
+  /**
+   * @param event event to encode
+   * @return encoded event
+   */
+  String encode(E event);
+
+  /**
+   * @param payload encoded event
+   * @return decoded event
+   * @throws EventCodecException if the payload is malformed
+   */
+  E decode(String payload);
+}
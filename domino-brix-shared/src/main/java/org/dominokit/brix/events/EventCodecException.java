@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/**
+ * Thrown when a payload cannot be decoded, for example a truncated or corrupted {@link
+ * CompactReader compact payload} or {@link Frames frames message}, or a message written by an
+ * incompatible codec version.
+ */
+public class EventCodecException extends RuntimeException {
+
+  /**
+   * @param message description of the malformed input
+   */
+  public EventCodecException(String message) {
+    super(message);
+  }
+
+  /**
+   * @param message description of the malformed input
+   * @param cause failure raised while decoding
+   */
+  public EventCodecException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Length-prefixed framing used to pack several strings into a single message, each frame is written
+ * as its length, a colon and its value so values need no escaping.
+ */
+public final class Frames {
+
+  private Frames() {}
+
+  /**
+   * Appends a frame to a message.
+   *
+   * @param message message being built
+   * @param value frame value
+   */
+  public static void append(StringBuilder message, String value) {
+    message.append(value.length()).append(':').append(value);
+  }
+
+  /**
+   * Splits a message into its frames.
+   *
+   * @param message message built with {@link #append(StringBuilder, String)}
+   * @return frame values in order
+   * @throws EventCodecException if the message is not a sequence of complete frames
+   */
+  public static List<String> read(String message) {
+    if (isNull(message)) {
+      throw new EventCodecException("Missing frames message.");
+    }
+    List<String> frames = new ArrayList<>();
+    int position = 0;
+    while (position < message.length()) {
+      int separator = message.indexOf(':', position);
+      if (separator < 0) {
+        throw malformed(position);
+      }
+      int start = separator + 1;
+      int length = parseLength(message.substring(position, separator));
+      if (length < 0 || length > message.length() - start) {
+        throw malformed(position);
+      }
+      frames.add(message.substring(start, start + length));
+      position = start + length;
+    }
+    return frames;
+  }
+
+  /**
+   * @return the length prefix as a number, or -1 when it is not a non-negative int
+   */
+  static int parseLength(String length) {
+    if (length.isEmpty() || length.length() > 9) {
+      return -1;
+    }
+    for (int i = 0; i < length.length(); i++) {
+      if (length.charAt(i) < '0' || length.charAt(i) > '9') {
+        return -1;
+      }
+    }
+    return Integer.parseInt(length);
+  }
+
+  private static EventCodecException malformed(int position) {
+    return new EventCodecException("Malformed frame at position [" + position + "].");
+  }
+}
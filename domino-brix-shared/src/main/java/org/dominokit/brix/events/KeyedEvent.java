@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+/**
+ * Implemented by events that refer to a specific entity, for example the id of a selected record.
+ *
+ * <p>Events of the same type and key are treated as updates of each other, the event bus uses the
+ * key when coalescing deferred events and when retaining sticky events.
+ */
+public interface KeyedEvent {
+  /**
+   * @return key identifying the entity this event refers to
+   */
+  Object getEventKey();
+}
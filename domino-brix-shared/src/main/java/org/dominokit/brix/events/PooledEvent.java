@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static java.util.Objects.nonNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Base type for events of high frequency types whose instances are reused through an event pool
+ * instead of being allocated for every fire. A pooled instance is acquired from the pool, filled,
+ * fired and returned to the pool as soon as the synchronous dispatch completes, at which point its
+ * payload is {@link #reset() reset}.
+ *
+ * <p>Listeners must not keep a reference to a pooled event, a listener that needs the event after
+ * it returns calls {@link #retain()} and keeps the detached copy instead, the copy keeps the id and
+ * timestamp of the pooled instance.
+ *
+ * @param <E> the concrete event type
+ */
+public abstract class PooledEvent<E extends PooledEvent<E>> extends BrixEvent {
+
+  private Consumer<E> recycler;
+
+  /**
+   * Returns an instance that stays valid after the dispatch, a detached copy while this instance is
+   * owned by a pool, or this instance otherwise.
+   *
+   * @return event instance safe to keep
+   */
+  public final E retain() {
+    if (!isPooled()) {
+      return self();
+    }
+    E copy = copy();
+    copy.copyIdentity(this);
+    return copy;
+  }
+
+  /**
+   * @return true if this instance is currently acquired from a pool
+   */
+  public final boolean isPooled() {
+    return nonNull(recycler);
+  }
+
+  void onAcquired(Consumer<E> recycler) {
+    renew();
+    this.recycler = recycler;
+  }
+
+  /** Returns the instance to its pool, has no effect when the instance is not acquired. */
+  public final void release() {
+    if (isPooled()) {
+      Consumer<E> owner = recycler;
+      this.recycler = null;
+      reset();
+      owner.accept(self());
+    }
+  }
+
+  /** Clears the payload before the instance goes back to the pool. */
+  protected abstract void reset();
+
+  /**
+   * @return a new instance, not owned by any pool, holding the same payload
+   */
+  protected abstract E copy();
+
+  @SuppressWarnings("unchecked")
+  private E self() {
+    return (E) this;
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.hub;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import org.dominokit.brix.events.BrixEvent;
+
+/**
+ * Thread-safe event hub for the JVM that fans out {@link BrixEvent}s to many subscribers, for
+ * example the sessions connected to a server. This package is not available in GWT.
+ *
+ * <p>Subscribers are spread over striped copy-on-write arrays updated with compare-and-set, so
+ * publishing never locks and concurrent subscriptions only contend within a stripe. Each {@link
+ * HubSubscription} has a bounded queue drained on the given {@link Executor}, a slow subscriber
+ * only fills its own queue. Pass a virtual thread executor, such as {@code
+ * Executors.newVirtualThreadPerTaskExecutor()} on Java 21, to deliver each subscriber on its own
+ * virtual thread.
+ */
+public class ConcurrentEventHub implements AutoCloseable {
+
+  private static final HubSubscription[] EMPTY = new HubSubscription[0];
+
+  private final Executor executor;
+  private final HubOptions options;
+  private final AtomicReferenceArray<HubSubscription[]> stripes;
+  private final AtomicInteger nextStripe = new AtomicInteger();
+
+  /**
+   * @param executor runs the delivery tasks of the subscribers
+   */
+  public ConcurrentEventHub(Executor executor) {
+    this(executor, HubOptions.create());
+  }
+
+  /**
+   * @param executor runs the delivery tasks of the subscribers
+   * @param options hub configuration
+   */
+  public ConcurrentEventHub(Executor executor, HubOptions options) {
+    this.executor = executor;
+    this.options = options;
+    this.stripes = new AtomicReferenceArray<>(options.getStripes());
+    for (int i = 0; i < stripes.length(); i++) {
+      stripes.set(i, EMPTY);
+    }
+  }
+
+  /**
+   * Subscribes to every published event.
+   *
+   * @param listener receives the events
+   * @return the subscription, close it to unsubscribe
+   */
+  public HubSubscription subscribe(Consumer<? super BrixEvent> listener) {
+    return add(new HubSubscription(this, null, listener, executor, options));
+  }
+
+  /**
+   * Subscribes to the published events that are instances of the given type.
+   *
+   * @param type event class, abstract class or interface
+   * @param listener receives the events
+   * @param <E> event type
+   * @return the subscription, close it to unsubscribe
+   */
+  @SuppressWarnings("unchecked")
+  public <E> HubSubscription subscribe(Class<E> type, Consumer<? super E> listener) {
+    return add(
+        new HubSubscription(this, type, event -> listener.accept((E) event), executor, options));
+  }
+
+  /**
+   * Queues the event for every matching subscriber and returns without waiting for delivery.
+   *
+   * @param event event to publish
+   * @return number of subscribers the event was queued for
+   */
+  public int publish(BrixEvent event) {
+    int queued = 0;
+    for (int i = 0; i < stripes.length(); i++) {
+      for (HubSubscription subscription : stripes.get(i)) {
+        if (subscription.accepts(event) && subscription.offer(event)) {
+          queued++;
+        }
+      }
+    }
+    return queued;
+  }
+
+  /**
+   * @return number of active subscriptions
+   */
+  public int getSubscribersCount() {
+    int count = 0;
+    for (int i = 0; i < stripes.length(); i++) {
+      count += stripes.get(i).length;
+    }
+    return count;
+  }
+
+  /** Closes every subscription, the executor is left running. */
+  @Override
+  public void close() {
+    for (int i = 0; i < stripes.length(); i++) {
+      for (HubSubscription subscription : stripes.getAndSet(i, EMPTY)) {
+        subscription.close();
+      }
+    }
+  }
+
+  private HubSubscription add(HubSubscription subscription) {
+    int stripe = Math.floorMod(nextStripe.getAndIncrement(), stripes.length());
+    HubSubscription[] current;
+    HubSubscription[] updated;
+    do {
+      current = stripes.get(stripe);
+      updated = new HubSubscription[current.length + 1];
+      System.arraycopy(current, 0, updated, 0, current.length);
+      updated[current.length] = subscription;
+    } while (!stripes.compareAndSet(stripe, current, updated));
+    return subscription;
+  }
+
+  void remove(HubSubscription subscription) {
+    for (int stripe = 0; stripe < stripes.length(); stripe++) {
+      HubSubscription[] current;
+      HubSubscription[] updated;
+      do {
+        current = stripes.get(stripe);
+        int index = indexOf(current, subscription);
+        if (index < 0) {
+          break;
+        }
+        updated = new HubSubscription[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 1, updated, index, updated.length - index);
+      } while (!stripes.compareAndSet(stripe, current, updated));
+    }
+  }
+
+  private static int indexOf(HubSubscription[] subscriptions, HubSubscription subscription) {
+    for (int i = 0; i < subscriptions.length; i++) {
+      if (subscriptions[i] == subscription) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.hub;
+
+/** Configuration of a {@link ConcurrentEventHub}. */
+public class HubOptions {
+
+  private int stripes = 16;
+  private int queueCapacity = 1024;
+  private int batchSize = 64;
+  private HubOverflowPolicy overflowPolicy = HubOverflowPolicy.DROP_OLDEST;
+
+  /**
+   * @return new options with default values
+   */
+  public static HubOptions create() {
+    return new HubOptions();
+  }
+
+  /**
+   * @return number of independent subscriber lists
+   */
+  public int getStripes() {
+    return stripes;
+  }
+
+  /**
+   * @param stripes number of independent subscriber lists, more stripes make subscribing cheaper
+   *     under contention, must be positive
+   * @return same options instance
+   */
+  public HubOptions setStripes(int stripes) {
+    if (stripes < 1) {
+      throw new IllegalArgumentException("Hub stripes must be positive.");
+    }
+    this.stripes = stripes;
+    return this;
+  }
+
+  /**
+   * @return maximum number of events queued per subscriber
+   */
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  /**
+   * @param queueCapacity maximum number of events queued per subscriber, must be positive
+   * @return same options instance
+   */
+  public HubOptions setQueueCapacity(int queueCapacity) {
+    if (queueCapacity < 1) {
+      throw new IllegalArgumentException("Hub queue capacity must be positive.");
+    }
+    this.queueCapacity = queueCapacity;
+    return this;
+  }
+
+  /**
+   * @return maximum number of events delivered to a subscriber by a single executor task
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * @param batchSize maximum number of events delivered to a subscriber by a single executor task,
+   *     must be positive
+   * @return same options instance
+   */
+  public HubOptions setBatchSize(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Hub batch size must be positive.");
+    }
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * @return the policy applied when a subscriber queue is full
+   */
+  public HubOverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * @param overflowPolicy the policy applied when a subscriber queue is full
+   * @return same options instance
+   */
+  public HubOptions setOverflowPolicy(HubOverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+    return this;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.hub;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.dominokit.brix.events.BrixEvent;
+
+/**
+ * A subscriber of a {@link ConcurrentEventHub} with its own bounded queue. Queued events are
+ * delivered in order by at most one executor task at a time, so the listener is never called
+ * concurrently with itself.
+ */
+public final class HubSubscription implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(HubSubscription.class.getName());
+
+  private final ConcurrentEventHub hub;
+  private final Class<?> eventType;
+  private final Consumer<? super BrixEvent> listener;
+  private final Executor executor;
+  private final int capacity;
+  private final int batchSize;
+  private final HubOverflowPolicy overflowPolicy;
+  private final Queue<BrixEvent> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder delivered = new LongAdder();
+  private volatile boolean closed = false;
+
+  HubSubscription(
+      ConcurrentEventHub hub,
+      Class<?> eventType,
+      Consumer<? super BrixEvent> listener,
+      Executor executor,
+      HubOptions options) {
+    this.hub = hub;
+    this.eventType = eventType;
+    this.listener = listener;
+    this.executor = executor;
+    this.capacity = options.getQueueCapacity();
+    this.batchSize = options.getBatchSize();
+    this.overflowPolicy = options.getOverflowPolicy();
+  }
+
+  /**
+   * @return number of events waiting for delivery
+   */
+  public int getPending() {
+    return Math.max(0, size.get());
+  }
+
+  /**
+   * @return number of events dropped because the queue was full
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * @return number of events delivered to the listener
+   */
+  public long getDelivered() {
+    return delivered.sum();
+  }
+
+  /**
+   * @return true once the subscription is closed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /** Unsubscribes from the hub, queued events are discarded. */
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      hub.remove(this);
+      queue.clear();
+      size.set(0);
+    }
+  }
+
+  boolean accepts(BrixEvent event) {
+    return isNull(eventType) || eventType.isInstance(event);
+  }
+
+  boolean offer(BrixEvent event) {
+    if (closed) {
+      return false;
+    }
+    if (size.incrementAndGet() > capacity) {
+      if (HubOverflowPolicy.DROP_NEWEST == overflowPolicy) {
+        size.decrementAndGet();
+        dropped.increment();
+        return false;
+      }
+      if (nonNull(queue.poll())) {
+        size.decrementAndGet();
+        dropped.increment();
+      }
+    }
+    queue.offer(event);
+    schedule();
+    return true;
+  }
+
+  private void schedule() {
+    if (scheduled.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        scheduled.set(false);
+        LOGGER.log(Level.WARNING, "Event hub executor rejected the delivery task.", e);
+      }
+    }
+  }
+
+  private void drain() {
+    try {
+      for (int i = 0; i < batchSize && !closed; i++) {
+        BrixEvent event = queue.poll();
+        if (isNull(event)) {
+          break;
+        }
+        size.decrementAndGet();
+        deliver(event);
+      }
+    } finally {
+      scheduled.set(false);
+    }
+    // events offered while the flag was still set would otherwise wait for the next offer.
+    if (!closed && !queue.isEmpty()) {
+      schedule();
+    }
+  }
+
+  private void deliver(BrixEvent event) {
+    try {
+      listener.accept(event);
+      delivered.increment();
+    } catch (RuntimeException e) {
+      LOGGER.log(Level.SEVERE, "Event hub listener failed for [" + event.getType() + "].", e);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class BrixEventTest {
+
+  @AfterEach
+  public void tearDown() {
+    BrixIds.setMode(null);
+  }
+
+  @Test
+  public void generatesUniqueIdsAcrossThreads() throws InterruptedException {
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      threads.add(
+          new Thread(
+              () -> {
+                for (int j = 0; j < 10_000; j++) {
+                  ids.add(new SampleEvent().getEventId());
+                }
+              }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(40_000, ids.size());
+  }
+
+  @Test
+  public void keepsTheSameIdOnEveryAccess() {
+    SampleEvent event = new SampleEvent();
+
+    assertEquals(event.getEventId(), event.getEventId());
+  }
+
+  @Test
+  public void generatesUuidsInUuidMode() {
+    BrixIds.setMode(BrixIds.Mode.UUID);
+
+    String id = new SampleEvent().getEventId();
+
+    assertEquals(36, id.length());
+  }
+
+  @Test
+  public void reacquiredInstancesGetANewId() {
+    SamplePooledEvent pooled = new SamplePooledEvent();
+    pooled.onAcquired(event -> {});
+    String id = pooled.getEventId();
+    pooled.release();
+
+    pooled.onAcquired(event -> {});
+
+    assertNotEquals(id, pooled.getEventId());
+  }
+
+  private static class SampleEvent extends BrixEvent {}
+
+  private static class SamplePooledEvent extends PooledEvent<SamplePooledEvent> {
+    @Override
+    protected void reset() {}
+
+    @Override
+    protected SamplePooledEvent copy() {
+      return new SamplePooledEvent();
+    }
+  }
+}
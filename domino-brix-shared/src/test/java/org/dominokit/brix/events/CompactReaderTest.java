@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class CompactReaderTest {
+
+  @Test
+  public void readsValuesInTheWrittenOrder() {
+    String payload =
+        new CompactWriter()
+            .writeString("a:b")
+            .writeInt(-7)
+            .writeLong(Long.MAX_VALUE)
+            .writeDouble(0.5)
+            .writeBoolean(false)
+            .writeChar('x')
+            .writeNull()
+            .writeList(List.of("x", "y"), CompactWriter::writeString)
+            .toString();
+
+    CompactReader reader = new CompactReader(payload);
+    assertEquals("a:b", reader.readString());
+    assertEquals(-7, reader.readInt());
+    assertEquals(Long.MAX_VALUE, reader.readLong());
+    assertEquals(0.5, reader.readDouble());
+    assertEquals(false, reader.readBoolean());
+    assertEquals('x', reader.readChar());
+    assertEquals(null, reader.readString());
+    assertEquals(List.of("x", "y"), reader.readList(CompactReader::readString));
+  }
+
+  @Test
+  public void rejectsMalformedCompactValues() {
+    assertThrows(EventCodecException.class, () -> new CompactReader("12").readInt());
+    assertThrows(EventCodecException.class, () -> new CompactReader("1x;").readInt());
+    assertThrows(EventCodecException.class, () -> new CompactReader("5:abc").readString());
+    assertThrows(EventCodecException.class, () -> new CompactReader("x").readBoolean());
+    assertThrows(
+        EventCodecException.class,
+        () -> new CompactReader("1000000;").readList(CompactReader::readString));
+    assertThrows(
+        EventCodecException.class, () -> CompactReader.decode("1;2;", CompactReader::readInt));
+  }
+}
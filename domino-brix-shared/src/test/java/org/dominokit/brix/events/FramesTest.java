@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class FramesTest {
+
+  @Test
+  public void roundTripsFrames() {
+    List<String> values = List.of("", "12:ab", "a;b~c", "é");
+    StringBuilder message = new StringBuilder();
+    values.forEach(value -> Frames.append(message, value));
+
+    assertEquals(values, Frames.read(message.toString()));
+  }
+
+  @Test
+  public void rejectsTruncatedMessages() {
+    StringBuilder message = new StringBuilder();
+    Frames.append(message, "first");
+    Frames.append(message, "second");
+    String complete = message.toString();
+
+    assertThrows(EventCodecException.class, () -> Frames.read(complete.substring(0, 10)));
+    assertThrows(EventCodecException.class, () -> Frames.read(complete.substring(0, 8)));
+  }
+
+  @Test
+  public void rejectsMalformedLengths() {
+    assertThrows(EventCodecException.class, () -> Frames.read("x:a"));
+    assertThrows(EventCodecException.class, () -> Frames.read("-1:a"));
+    assertThrows(EventCodecException.class, () -> Frames.read(":a"));
+    assertThrows(EventCodecException.class, () -> Frames.read("99999999999:a"));
+    assertThrows(EventCodecException.class, () -> Frames.read(null));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PooledEventTest {
+
+  private long now = 1000;
+
+  @AfterEach
+  public void tearDown() {
+    BrixEvent.setClock(null);
+  }
+
+  @Test
+  public void retainedCopiesKeepTheIdAndTimestamp() {
+    BrixEvent.setClock(() -> now);
+    SamplePooledEvent pooled = new SamplePooledEvent();
+    pooled.onAcquired(event -> {});
+    String id = pooled.getEventId();
+    now = 2000;
+
+    SamplePooledEvent retained = pooled.retain();
+
+    assertNotSame(pooled, retained);
+    assertEquals(id, retained.getEventId());
+    assertEquals(1000, retained.getTimestamp());
+  }
+
+  private static class SamplePooledEvent extends PooledEvent<SamplePooledEvent> {
+    @Override
+    protected void reset() {}
+
+    @Override
+    protected SamplePooledEvent copy() {
+      return new SamplePooledEvent();
+    }
+  }
+}
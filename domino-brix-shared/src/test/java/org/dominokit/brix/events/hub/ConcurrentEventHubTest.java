@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.brix.events.hub;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.dominokit.brix.events.BrixEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentEventHubTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  public void tearDown() throws InterruptedException {
+    executor.shutdownNow();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void deliversEveryEventInOrderFromConcurrentPublishers() throws InterruptedException {
+    int publishers = 4;
+    int events = 1000;
+    int subscribers = 50;
+    ConcurrentEventHub hub =
+        new ConcurrentEventHub(
+            executor, HubOptions.create().setQueueCapacity(publishers * events).setBatchSize(16));
+    CountDownLatch delivered = new CountDownLatch(subscribers * publishers * events);
+    AtomicBoolean failed = new AtomicBoolean();
+    for (int i = 0; i < subscribers; i++) {
+      int[] lastSequences = new int[publishers];
+      AtomicInteger running = new AtomicInteger();
+      hub.subscribe(
+          SequenceEvent.class,
+          event -> {
+            if (running.incrementAndGet() > 1
+                || event.sequence != lastSequences[event.publisher] + 1) {
+              failed.set(true);
+            }
+            lastSequences[event.publisher] = event.sequence;
+            running.decrementAndGet();
+            delivered.countDown();
+          });
+    }
+
+    List<Thread> threads = new ArrayList<>();
+    for (int publisher = 0; publisher < publishers; publisher++) {
+      int id = publisher;
+      threads.add(
+          new Thread(
+              () -> {
+                for (int sequence = 1; sequence <= events; sequence++) {
+                  hub.publish(new SequenceEvent(id, sequence));
+                }
+              }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertTrue(delivered.await(10, TimeUnit.SECONDS));
+    assertFalse(failed.get());
+  }
+
+  @Test
+  public void keepsSubscriptionsAddedAndClosedConcurrently() throws InterruptedException {
+    ConcurrentEventHub hub = new ConcurrentEventHub(executor, HubOptions.create().setStripes(4));
+    List<HubSubscription> subscriptions = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      threads.add(
+          new Thread(
+              () -> {
+                List<HubSubscription> added = new ArrayList<>();
+                for (int j = 0; j < 500; j++) {
+                  added.add(hub.subscribe(event -> {}));
+                }
+                for (int j = 0; j < added.size(); j += 2) {
+                  added.get(j).close();
+                }
+                synchronized (subscriptions) {
+                  subscriptions.addAll(added);
+                }
+              }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(2000, hub.getSubscribersCount());
+    assertEquals(2000, hub.publish(new SequenceEvent(0, 1)));
+    hub.close();
+    assertEquals(0, hub.getSubscribersCount());
+    assertTrue(subscriptions.stream().allMatch(HubSubscription::isClosed));
+  }
+
+  @Test
+  public void dropsTheOldestEventsOfAFullQueue() {
+    List<Runnable> tasks = new ArrayList<>();
+    ConcurrentEventHub hub =
+        new ConcurrentEventHub(
+            tasks::add,
+            HubOptions.create()
+                .setQueueCapacity(2)
+                .setOverflowPolicy(HubOverflowPolicy.DROP_OLDEST));
+    List<Integer> received = new ArrayList<>();
+    HubSubscription subscription =
+        hub.subscribe(SequenceEvent.class, event -> received.add(event.sequence));
+
+    for (int sequence = 1; sequence <= 3; sequence++) {
+      assertEquals(1, hub.publish(new SequenceEvent(0, sequence)));
+    }
+    tasks.forEach(Runnable::run);
+
+    assertEquals(List.of(2, 3), received);
+    assertEquals(1, subscription.getDropped());
+    assertEquals(2, subscription.getDelivered());
+  }
+
+  @Test
+  public void dropsTheNewestEventsOfAFullQueue() {
+    List<Runnable> tasks = new ArrayList<>();
+    ConcurrentEventHub hub =
+        new ConcurrentEventHub(
+            tasks::add,
+            HubOptions.create()
+                .setQueueCapacity(2)
+                .setOverflowPolicy(HubOverflowPolicy.DROP_NEWEST));
+    List<Integer> received = new ArrayList<>();
+    HubSubscription subscription =
+        hub.subscribe(SequenceEvent.class, event -> received.add(event.sequence));
+
+    hub.publish(new SequenceEvent(0, 1));
+    hub.publish(new SequenceEvent(0, 2));
+    assertEquals(0, hub.publish(new SequenceEvent(0, 3)));
+    tasks.forEach(Runnable::run);
+
+    assertEquals(List.of(1, 2), received);
+    assertEquals(1, subscription.getDropped());
+  }
+
+  @Test
+  public void onlyDeliversEventsOfTheSubscribedType() {
+    ConcurrentEventHub hub = new ConcurrentEventHub(Runnable::run);
+    List<BrixEvent> typed = new ArrayList<>();
+    List<BrixEvent> all = new ArrayList<>();
+    hub.subscribe(SequenceEvent.class, typed::add);
+    hub.subscribe(all::add);
+
+    hub.publish(new SequenceEvent(0, 1));
+    hub.publish(new OtherEvent());
+
+    assertEquals(1, typed.size());
+    assertEquals(2, all.size());
+  }
+
+  @Test
+  public void closedSubscriptionsReceiveNothing() {
+    List<Runnable> tasks = new ArrayList<>();
+    ConcurrentEventHub hub = new ConcurrentEventHub(tasks::add);
+    List<BrixEvent> received = new ArrayList<>();
+    HubSubscription subscription = hub.subscribe(received::add);
+
+    hub.publish(new SequenceEvent(0, 1));
+    subscription.close();
+    tasks.forEach(Runnable::run);
+
+    assertTrue(received.isEmpty());
+    assertEquals(0, subscription.getPending());
+    assertEquals(0, hub.publish(new SequenceEvent(0, 2)));
+  }
+
+  private static class SequenceEvent extends BrixEvent {
+    private final int publisher;
+    private final int sequence;
+
+    private SequenceEvent(int publisher, int sequence) {
+      this.publisher = publisher;
+      this.sequence = sequence;
+    }
+  }
+
+  private static class OtherEvent extends BrixEvent {}
+}